@@ -0,0 +1,241 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Processador de anotações que gera, para cada {@link Enum} anotado com
+ * {@code br.com.programmer.util.EnumLookup}, uma
+ * {@code br.com.programmer.util.EnumLookupTable} com as constantes, a ordenação por
+ * nome e as consultas por nome, ordinal e código resolvidas em tempo de compilação.
+ * <p>
+ * Publicado em um artefato próprio, {@code pia-util-java8-processor}, que não
+ * depende do {@code pia-util-java8}: a anotação é lida pelo seu
+ * {@link javax.lang.model.element.AnnotationMirror}. O processador deve ser
+ * declarado explicitamente no build, em {@code annotationProcessorPaths} do
+ * {@code maven-compiler-plugin}, pois a descoberta implícita pelo classpath é
+ * desativada por padrão a partir do JDK 23.
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+@SupportedAnnotationTypes("br.com.programmer.util.EnumLookup")
+public final class EnumLookupProcessor extends AbstractProcessor {
+
+    private static final String ANNOTATION = "br.com.programmer.util.EnumLookup";
+    private static final String TABLE = "br.com.programmer.util.EnumLookupTable";
+    private static final String SUFFIX = "_EnumLookup";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotations.isEmpty())
+            return false;
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotations.iterator().next())) {
+            if (element.getKind() != ElementKind.ENUM) {
+                error(element, "@EnumLookup is only allowed on enum types");
+                continue;
+            }
+            TypeElement enumType = (TypeElement) element;
+            if (isPrivate(enumType)) {
+                error(enumType, "@EnumLookup enum and its enclosing types must not be private");
+                continue;
+            }
+            String code = code(enumType);
+            if (!code.isEmpty() && !hasCodeMethod(enumType, code)) {
+                error(enumType, "@EnumLookup code method \"" + code + "\" must be a non-private instance method without parameters returning a value");
+                continue;
+            }
+            generate(enumType, code);
+        }
+        return true;
+    }
+
+    /**
+     * <p>Gera o código-fonte da tabela do {@link Enum} informado.</p>
+     *
+     * @param enumType Tipo {@link Enum}
+     * @param code     Nome do método de código, vazio caso não exista
+     */
+    private void generate(TypeElement enumType, String code) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(enumType);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(enumType).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + SUFFIX;
+        String type = enumType.getQualifiedName().toString();
+
+        List<String> constants = new ArrayList<>();
+        for (Element member : enumType.getEnclosedElements())
+            if (member.getKind() == ElementKind.ENUM_CONSTANT)
+                constants.add(member.getSimpleName().toString());
+        List<String> sorted = new ArrayList<>(constants);
+        Collections.sort(sorted);
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, enumType).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Tabela de consulta de {@link " + type + "} gerada pelo EnumLookupProcessor.");
+            out.println(" */");
+            out.println("public final class " + simpleName + " implements " + TABLE + "<" + type + "> {");
+            out.println();
+            out.println("    private static final java.util.List<" + type + "> VALUES = " + list(type, constants) + ";");
+            out.println("    private static final java.util.List<" + type + "> SORTED_VALUES = " + list(type, sorted) + ";");
+            if (!code.isEmpty()) {
+                out.println("    private static final java.util.Map<Object, " + type + "> CODES = new java.util.HashMap<>();");
+                out.println();
+                out.println("    static {");
+                out.println("        for (" + type + " value : VALUES)");
+                out.println("            CODES.put(value." + code + "(), value);");
+                out.println("    }");
+            }
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.List<" + type + "> values() {");
+            out.println("        return VALUES;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.List<" + type + "> sortedValues() {");
+            out.println("        return SORTED_VALUES;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + type + " byName(String name) {");
+            out.println("        if (name == null)");
+            out.println("            return null;");
+            out.println("        switch (name) {");
+            for (String constant : constants) {
+                out.println("            case \"" + constant + "\":");
+                out.println("                return " + type + "." + constant + ";");
+            }
+            out.println("            default:");
+            out.println("                return null;");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + type + " byOrdinal(int ordinal) {");
+            out.println("        return ordinal >= 0 && ordinal < VALUES.size() ? VALUES.get(ordinal) : null;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + type + " byCode(Object code) {");
+            if (code.isEmpty())
+                out.println("        throw new UnsupportedOperationException(\"Enum has no code method\");");
+            else
+                out.println("        return CODES.get(code);");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(enumType, "Could not generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * <p>Monta a expressão de uma {@link java.util.List} imutável com as constantes informadas.</p>
+     */
+    private static String list(String type, List<String> constants) {
+        StringBuilder expression = new StringBuilder("java.util.Collections.unmodifiableList(java.util.Arrays.<")
+                .append(type).append(">asList(");
+        for (int i = 0; i < constants.size(); i++) {
+            if (i > 0)
+                expression.append(", ");
+            expression.append(type).append('.').append(constants.get(i));
+        }
+        return expression.append("))").toString();
+    }
+
+    /**
+     * <p>Lê o atributo {@code code} da anotação do {@link Enum} informado.</p>
+     */
+    private static String code(TypeElement enumType) {
+        for (AnnotationMirror annotation : enumType.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION))
+                continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute
+                    : annotation.getElementValues().entrySet())
+                if (attribute.getKey().getSimpleName().contentEquals("code"))
+                    return (String) attribute.getValue().getValue();
+        }
+        return "";
+    }
+
+    /**
+     * <p>Verifica se o tipo informado, ou algum tipo externo, é {@code private}.</p>
+     */
+    private static boolean isPrivate(Element element) {
+        for (Element current = element; current instanceof TypeElement; current = current.getEnclosingElement())
+            if (current.getModifiers().contains(Modifier.PRIVATE))
+                return true;
+        return false;
+    }
+
+    /**
+     * <p>Verifica se o {@link Enum} possui o método de código informado.</p>
+     */
+    private boolean hasCodeMethod(TypeElement enumType, String code) {
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(enumType)))
+            if (method.getSimpleName().contentEquals(code) && method.getParameters().isEmpty()
+                    && method.getReturnType().getKind() != TypeKind.VOID
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC))
+                return true;
+        return false;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util.processor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compila, com o processador, cópias mínimas da anotação e da interface publicadas
+ * pelo pia-util-java8, de forma que o módulo não dependa daquele artefato.
+ */
+class EnumLookupProcessorTest {
+
+    private static final String ANNOTATION = "package br.com.programmer.util;\n"
+            + "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+            + "public @interface EnumLookup { String code() default \"\"; }";
+
+    private static final String TABLE = "package br.com.programmer.util;\n"
+            + "public interface EnumLookupTable<E extends Enum<E>> {\n"
+            + "    java.util.List<E> values();\n"
+            + "    java.util.List<E> sortedValues();\n"
+            + "    E byName(String name);\n"
+            + "    E byOrdinal(int ordinal);\n"
+            + "    E byCode(Object code);\n"
+            + "}";
+
+    private static final String STATUS = "package sample;\n"
+            + "public class Holder {\n"
+            + "    @br.com.programmer.util.EnumLookup(code = \"getCode\")\n"
+            + "    public enum Status {\n"
+            + "        OPEN(\"O\"), CLOSED(\"C\"), ARCHIVED(\"A\");\n"
+            + "        private final String code;\n"
+            + "        Status(String code) { this.code = code; }\n"
+            + "        public String getCode() { return code; }\n"
+            + "    }\n"
+            + "}";
+
+    @Test
+    void generatesLookupTable() throws Exception {
+        Path output = Files.createTempDirectory("enum-lookup");
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(output,
+                source("br/com/programmer/util/EnumLookup", ANNOTATION),
+                source("br/com/programmer/util/EnumLookupTable", TABLE),
+                source("sample/Holder", STATUS));
+        assertTrue(errors(diagnostics).isEmpty(), () -> errors(diagnostics).toString());
+        assertTrue(Files.exists(output.resolve("sample/Holder_Status_EnumLookup.java")));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()})) {
+            Object table = loader.loadClass("sample.Holder_Status_EnumLookup").getDeclaredConstructor().newInstance();
+            Class<?> tableType = loader.loadClass("br.com.programmer.util.EnumLookupTable");
+            Class<?> status = loader.loadClass("sample.Holder$Status");
+            Object[] constants = status.getEnumConstants();
+            assertEquals(Arrays.asList(constants), tableType.getMethod("values").invoke(table));
+            assertEquals(Arrays.asList(constants[2], constants[1], constants[0]),
+                    tableType.getMethod("sortedValues").invoke(table));
+            assertSame(constants[1], tableType.getMethod("byName", String.class).invoke(table, "CLOSED"));
+            assertNull(tableType.getMethod("byName", String.class).invoke(table, "closed"));
+            assertSame(constants[2], tableType.getMethod("byOrdinal", int.class).invoke(table, 2));
+            assertSame(constants[0], tableType.getMethod("byCode", Object.class).invoke(table, "O"));
+        }
+    }
+
+    @Test
+    void rejectsInvalidTargets() throws IOException {
+        String invalid = "package sample;\n"
+                + "public class Invalid {\n"
+                + "    @br.com.programmer.util.EnumLookup public static class NotEnum {}\n"
+                + "    @br.com.programmer.util.EnumLookup(code = \"missing\") public enum NoCode { A }\n"
+                + "    @br.com.programmer.util.EnumLookup private enum Hidden { A }\n"
+                + "}";
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(Files.createTempDirectory("enum-lookup"),
+                source("br/com/programmer/util/EnumLookup", ANNOTATION),
+                source("br/com/programmer/util/EnumLookupTable", TABLE),
+                source("sample/Invalid", invalid));
+        List<String> errors = errors(diagnostics);
+        assertEquals(3, errors.size(), errors::toString);
+        assertTrue(errors.get(0).contains("only allowed on enum types"));
+        assertTrue(errors.get(1).contains("\"missing\""));
+        assertTrue(errors.get(2).contains("must not be private"));
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(Path output, JavaFileObject... sources)
+            throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    Arrays.asList("-d", output.toString(), "-s", output.toString()), null, Arrays.asList(sources));
+            task.setProcessors(Collections.singletonList(new EnumLookupProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    private static List<String> errors(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return diagnostics.stream().filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null)).collect(Collectors.toList());
+    }
+
+    private static JavaFileObject source(String path, String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + path + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Conjunto aproximado para testes de pertinência baseado em filtro de Bloom.
+ * <p>
+ * {@link #mightContain(Object)} nunca retorna {@code false} para um elemento
+ * inserido, mas pode retornar {@code true} para um elemento ausente com a
+ * probabilidade configurada. A memória ocupada é de
+ * {@code -n * ln(p) / ln(2)^2} bits para {@code n} inserções e taxa de falso
+ * positivo {@code p}, aproximadamente:
+ * </p>
+ * <table summary="Taxa de falso positivo x memória">
+ * <tr><th>taxa de falso positivo</th><th>bits por elemento</th><th>100M elementos</th></tr>
+ * <tr><td>10%</td><td>4,8</td><td>57 MB</td></tr>
+ * <tr><td>1%</td><td>9,6</td><td>114 MB</td></tr>
+ * <tr><td>0,1%</td><td>14,4</td><td>171 MB</td></tr>
+ * <tr><td>0,01%</td><td>19,2</td><td>228 MB</td></tr>
+ * <tr><td colspan="3">taxas válidas apenas com hash de 64 bits bem distribuído, veja abaixo</td></tr>
+ * </table>
+ * <p>
+ * Sem função de hash, apenas {@code null}, números, caracteres, {@link Boolean},
+ * {@link CharSequence}, {@link Enum} e {@link java.util.UUID} são aceitos; para
+ * chaves compostas, entidades e demais tipos, informe uma função de hash de
+ * 64 bits em {@link #BloomFilter(long, double, ToLongFunction)}. O
+ * {@link Object#hashCode()} não é usado, pois elementos que colidem em 32 bits
+ * se tornam indistinguíveis e elevam a taxa de falso positivo acima da
+ * configurada.
+ * </p>
+ * <p>
+ * Instâncias são thread-safe: os bits são ligados com operações atômicas, de
+ * forma que partições paralelas podem inserir no mesmo filtro. Filtros criados
+ * com os mesmos parâmetros também podem ser combinados com
+ * {@link #merge(BloomFilter)}.
+ * </p>
+ *
+ * @param <T> Tipo dos elementos
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#mapToBloomFilter(java.util.Collection, java.util.function.Function, double)
+ * @since 1.0
+ */
+public final class BloomFilter<T> {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final ToLongFunction<? super T> hasher;
+
+    /**
+     * <p>Cria um filtro dimensionado para a quantidade de inserções e a taxa de falso
+     * positivo informadas.</p>
+     *
+     * @param expectedInsertions Quantidade esperada de elementos
+     * @param falsePositiveRate  Taxa de falso positivo desejada, entre 0 e 1 (exclusivos)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        this(expectedInsertions, falsePositiveRate, Hashing::bits);
+    }
+
+    /**
+     * <p>Cria um filtro dimensionado para a quantidade de inserções e a taxa de falso
+     * positivo informadas, com a função de hash informada.</p>
+     *
+     * @param expectedInsertions Quantidade esperada de elementos
+     * @param falsePositiveRate  Taxa de falso positivo desejada, entre 0 e 1 (exclusivos)
+     * @param hasher             Função de hash de 64 bits dos elementos. Elementos iguais
+     *                           devem produzir o mesmo valor; o valor é espalhado pelo
+     *                           filtro, de forma que identificadores sequenciais podem
+     *                           ser usados diretamente
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate, ToLongFunction<? super T> hasher) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("\"expectedInsertions\" argument is invalid");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("\"falsePositiveRate\" argument is invalid");
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (Math.max(size, Long.SIZE) + Long.SIZE - 1) / Long.SIZE);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.hasher = requireNonNull(hasher, "hasher");
+    }
+
+    /**
+     * <p>Insere um elemento no filtro.</p>
+     *
+     * @param value Elemento, pode ser {@code null}
+     * @throws IllegalArgumentException caso o filtro não tenha função de hash e o
+     *                                  tipo do elemento não seja suportado
+     */
+    public void put(T value) {
+        long hash = Hashing.mix(hasher.applyAsLong(value));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            or((int) (index >>> 6), 1L << index);
+        }
+    }
+
+    /**
+     * <p>Verifica se o elemento pode ter sido inserido no filtro.</p>
+     *
+     * @param value Elemento, pode ser {@code null}
+     * @return {@code false} caso o elemento certamente não tenha sido inserido,
+     * caso contrário, retorna {@code true}
+     */
+    public boolean mightContain(T value) {
+        long hash = Hashing.mix(hasher.applyAsLong(value));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * <p>Combina os elementos inseridos no filtro informado com este filtro.</p>
+     *
+     * @param other Filtro criado com os mesmos parâmetros
+     * @return este filtro
+     */
+    public BloomFilter<T> merge(BloomFilter<T> other) {
+        if (other == null || other.bitSize != bitSize || other.hashFunctions != hashFunctions)
+            throw new IllegalArgumentException("\"other\" argument is invalid");
+        for (int i = 0; i < bits.length(); i++)
+            or(i, other.bits.get(i));
+        return this;
+    }
+
+    /**
+     * <p>Retorna a quantidade de bits do filtro.</p>
+     *
+     * @return quantidade de bits
+     */
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    /**
+     * <p>Retorna a quantidade de funções de hash aplicadas a cada elemento.</p>
+     *
+     * @return quantidade de funções de hash
+     */
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * <p>Liga os bits informados na palavra, repetindo o compare-and-set apenas
+     * enquanto algum deles ainda estiver desligado.</p>
+     */
+    private void or(int word, long mask) {
+        long current = bits.get(word);
+        while ((current & mask) != mask && !bits.compareAndSet(word, current, current | mask))
+            current = bits.get(word);
+    }
+}
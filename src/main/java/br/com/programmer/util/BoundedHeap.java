@@ -0,0 +1,87 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Heap limitado que mantém os {@code k} maiores elementos segundo um
+ * {@link java.util.Comparator}, em tempo O(n log k) e memória O(min(n, k)). A
+ * fila começa pequena e cresce conforme os elementos chegam, de forma que
+ * {@code k} pode ser maior que a quantidade de elementos.
+ *
+ * @param <T> Tipo dos elementos
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+final class BoundedHeap<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<T> queue;
+
+    BoundedHeap(int k, Comparator<? super T> comparator) {
+        this.k = k;
+        this.comparator = comparator;
+        this.queue = new PriorityQueue<>(Math.max(1, Math.min(k, INITIAL_CAPACITY)), comparator);
+    }
+
+    /**
+     * <p>Oferece um elemento ao heap, descartando o menor caso a capacidade seja excedida.</p>
+     *
+     * @param value Elemento
+     */
+    void offer(T value) {
+        if (queue.size() < k)
+            queue.offer(value);
+        else if (k > 0 && comparator.compare(value, queue.peek()) > 0) {
+            queue.poll();
+            queue.offer(value);
+        }
+    }
+
+    /**
+     * <p>Combina os elementos do heap informado com este heap.</p>
+     *
+     * @param other Heap com a mesma capacidade
+     * @return este heap
+     */
+    BoundedHeap<T> merge(BoundedHeap<T> other) {
+        other.queue.forEach(this::offer);
+        return this;
+    }
+
+    /**
+     * <p>Retorna os elementos do heap do maior para o menor.</p>
+     *
+     * @return {@link java.util.List} ordenada
+     */
+    List<T> toList() {
+        List<T> list = new ArrayList<>(queue);
+        list.sort(comparator.reversed());
+        return list;
+    }
+}
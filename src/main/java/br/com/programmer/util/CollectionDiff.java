@@ -0,0 +1,116 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado da comparação entre duas versões de uma coleção, particionado em
+ * elementos adicionados, removidos e alterados.
+ *
+ * @param <T> Tipo dos elementos
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#diff(java.util.Collection, java.util.Collection, java.util.function.Function)
+ * @since 1.0
+ */
+public final class CollectionDiff<T> {
+
+    private final List<T> added;
+    private final List<T> removed;
+    private final List<Change<T>> changed;
+
+    CollectionDiff(List<T> added, List<T> removed, List<Change<T>> changed) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+    }
+
+    /**
+     * <p>Retorna os elementos presentes apenas na versão atual.</p>
+     *
+     * @return {@link java.util.List} imutável
+     */
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * <p>Retorna os elementos presentes apenas na versão anterior.</p>
+     *
+     * @return {@link java.util.List} imutável
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * <p>Retorna os elementos presentes nas duas versões, mas com conteúdo diferente.</p>
+     *
+     * @return {@link java.util.List} imutável
+     */
+    public List<Change<T>> getChanged() {
+        return changed;
+    }
+
+    /**
+     * <p>Verifica se as versões comparadas são equivalentes.</p>
+     *
+     * @return {@code true} caso não existam diferenças, caso contrário, retorna {@code false}
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    /**
+     * Par de versões, anterior e atual, de um elemento alterado.
+     *
+     * @param <T> Tipo do elemento
+     */
+    public static final class Change<T> {
+
+        private final T previous;
+        private final T current;
+
+        Change(T previous, T current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        /**
+         * <p>Retorna a versão anterior do elemento.</p>
+         *
+         * @return versão anterior
+         */
+        public T getPrevious() {
+            return previous;
+        }
+
+        /**
+         * <p>Retorna a versão atual do elemento.</p>
+         *
+         * @return versão atual
+         */
+        public T getCurrent() {
+            return current;
+        }
+    }
+}
@@ -20,8 +20,16 @@
  */
 package br.com.programmer.util;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.*;
@@ -31,7 +39,10 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toConcurrentMap;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -44,6 +55,14 @@ public final class CollectionUtil {
 
     public static final String PREDICATE = "predicate";
     public static final String MAPPER = "mapper";
+    public static final String COMPARATOR = "comparator";
+    public static final String KEY = "key";
+    public static final String JOINER = "joiner";
+    public static final String EQUALITY = "equality";
+    public static final String HASHER = "hasher";
+
+    private static final Object MATCHED = new Object();
+    private static final Object NULL = new Object();
 
     private CollectionUtil() {
         throw new AssertionError("No CollectionUtil instances for you!");
@@ -97,6 +116,20 @@ public final class CollectionUtil {
         return filter(values, predicate).collect(toSet());
     }
 
+    /**
+     * <p>Retorna uma visão preguiçosa da coleção filtrada com base no
+     * {@link java.util.function.Predicate} informado. Ao contrário de
+     * {@link #filterToList(Collection, Predicate)}, nenhuma lista é criada e o
+     * predicado só é avaliado quando os elementos são percorridos.</p>
+     *
+     * @param values    É a coleção que deve ser filtrada
+     * @param predicate É o filtro aplicado sobre a coleção
+     * @return uma {@link LazyCollection}
+     */
+    public static <T> LazyCollection<T> filterView(Collection<T> values, Predicate<T> predicate) {
+        return new LazyCollection<T>(requireNonNull(values), Function.identity(), false).filter(predicate);
+    }
+
     /**
      * <p>Retorna um {@link java.util.stream.Stream} que consiste da aplicação da
      * função de filtro e mapeamento sobre os elementos da coleção informada.</p>
@@ -194,6 +227,60 @@ public final class CollectionUtil {
         return toStream(values).mapToDouble(requireNonNull(mapper, MAPPER));
     }
 
+    /**
+     * <p>Projeta os elementos da coleção informada em uma {@link LongColumn} armazenada
+     * em um {@link java.nio.ByteBuffer} direto, fora do heap.</p>
+     *
+     * @param values É a {@link java.util.Collection} que deve ser projetada
+     * @param mapper É a função de mapeamento
+     * @return uma {@link LongColumn}
+     */
+    public static <T> LongColumn projectToLong(Collection<T> values, ToLongFunction<? super T> mapper) {
+        requireNonNull(mapper, MAPPER);
+        return LongColumn.of(values, mapper, ColumnBuffers.allocate(requireNonNull(values).size(), LongColumn.WIDTH));
+    }
+
+    /**
+     * <p>Projeta os elementos da coleção informada em uma {@link LongColumn} armazenada
+     * no arquivo informado, mapeado em memória.</p>
+     *
+     * @param values É a {@link java.util.Collection} que deve ser projetada
+     * @param mapper É a função de mapeamento
+     * @param file   É o arquivo que armazenará a coluna
+     * @return uma {@link LongColumn}
+     */
+    public static <T> LongColumn projectToLong(Collection<T> values, ToLongFunction<? super T> mapper, Path file) {
+        requireNonNull(mapper, MAPPER);
+        return LongColumn.of(values, mapper, ColumnBuffers.map(file, requireNonNull(values).size(), LongColumn.WIDTH));
+    }
+
+    /**
+     * <p>Projeta os elementos da coleção informada em uma {@link DoubleColumn} armazenada
+     * em um {@link java.nio.ByteBuffer} direto, fora do heap.</p>
+     *
+     * @param values É a {@link java.util.Collection} que deve ser projetada
+     * @param mapper É a função de mapeamento
+     * @return uma {@link DoubleColumn}
+     */
+    public static <T> DoubleColumn projectToDouble(Collection<T> values, ToDoubleFunction<? super T> mapper) {
+        requireNonNull(mapper, MAPPER);
+        return DoubleColumn.of(values, mapper, ColumnBuffers.allocate(requireNonNull(values).size(), DoubleColumn.WIDTH));
+    }
+
+    /**
+     * <p>Projeta os elementos da coleção informada em uma {@link DoubleColumn} armazenada
+     * no arquivo informado, mapeado em memória.</p>
+     *
+     * @param values É a {@link java.util.Collection} que deve ser projetada
+     * @param mapper É a função de mapeamento
+     * @param file   É o arquivo que armazenará a coluna
+     * @return uma {@link DoubleColumn}
+     */
+    public static <T> DoubleColumn projectToDouble(Collection<T> values, ToDoubleFunction<? super T> mapper, Path file) {
+        requireNonNull(mapper, MAPPER);
+        return DoubleColumn.of(values, mapper, ColumnBuffers.map(file, requireNonNull(values).size(), DoubleColumn.WIDTH));
+    }
+
     /**
      * <p>Retorna uma {@link java.util.List} que consiste da aplicação da função de
      * mapeamento sobre os elementos da coleção informada.</p>
@@ -230,6 +317,33 @@ public final class CollectionUtil {
         return map(toStream(values), requireNonNull(mapper, MAPPER)).collect(toList());
     }
 
+    /**
+     * <p>Retorna uma visão preguiçosa que consiste da aplicação da função de mapeamento
+     * sobre os elementos da coleção informada. Ao contrário de
+     * {@link #mapToList(Collection, Function)}, nenhuma lista é criada e a função só é
+     * aplicada quando os elementos são percorridos.</p>
+     *
+     * @param values É a coleção que deve ser mapeada
+     * @param mapper É a função de mapeamento
+     * @return uma {@link LazyCollection}
+     */
+    public static <T, R> LazyCollection<R> mapView(Collection<T> values, Function<T, R> mapper) {
+        return new LazyCollection<T>(requireNonNull(values), Function.identity(), false).map(mapper);
+    }
+
+    /**
+     * <p>Retorna uma visão preguiçosa, com acesso por índice, que consiste da aplicação
+     * da função de mapeamento sobre os elementos da lista informada. A função só é
+     * aplicada aos elementos acessados.</p>
+     *
+     * @param values É a {@link java.util.List} que deve ser mapeada
+     * @param mapper É a função de mapeamento
+     * @return uma {@link LazyList}
+     */
+    public static <T, R> LazyList<R> mapView(List<T> values, Function<T, R> mapper) {
+        return new LazyList<T>(requireNonNull(values), Function.identity(), false).map(mapper);
+    }
+
     /**
      * <p>Retorna um {@link java.util.Set} de elementos que consiste da aplicação
      * da função de mapeamento sobre os elementos da coleção informada.</p>
@@ -242,6 +356,140 @@ public final class CollectionUtil {
         return map(toStream(values), requireNonNull(mapper, MAPPER)).collect(toSet());
     }
 
+    /**
+     * <p>Retorna um {@link DistinctCounter} com os elementos resultantes da aplicação
+     * da função de mapeamento sobre a coleção informada. Alternativa aproximada, com
+     * memória fixa, a {@code mapToSet(values, mapper).size()}.</p>
+     *
+     * @param values É a coleção que deve ser mapeada
+     * @param mapper É a função de mapeamento
+     * @return um {@link DistinctCounter} com a precisão padrão
+     */
+    public static <T, R> DistinctCounter<R> mapToDistinctCounter(Collection<T> values, Function<T, R> mapper) {
+        return mapToDistinctCounter(toStream(values), mapper);
+    }
+
+    /**
+     * <p>Retorna um {@link DistinctCounter} com os elementos resultantes da aplicação
+     * da função de mapeamento sobre a {@link java.util.stream.Stream} informada. Caso a
+     * stream seja paralela, cada partição usa seu próprio contador e os resultados são
+     * combinados ao final.</p>
+     *
+     * @param values É a {@link java.util.stream.Stream} que deve ser mapeada
+     * @param mapper É a função de mapeamento
+     * @return um {@link DistinctCounter} com a precisão padrão
+     */
+    public static <T, R> DistinctCounter<R> mapToDistinctCounter(Stream<T> values, Function<T, R> mapper) {
+        return map(values, mapper).collect(DistinctCounter::new, DistinctCounter::add, DistinctCounter::merge);
+    }
+
+    /**
+     * <p>Retorna um {@link DistinctCounter} com os elementos resultantes da aplicação
+     * da função de mapeamento sobre a coleção informada, usando a função de hash de
+     * 64 bits informada. Necessário para chaves compostas e demais tipos sem hash
+     * próprio de 64 bits.</p>
+     *
+     * @param values É a coleção que deve ser mapeada
+     * @param mapper É a função de mapeamento
+     * @param hasher É a função de hash de 64 bits dos elementos mapeados
+     * @return um {@link DistinctCounter} com a precisão padrão
+     */
+    public static <T, R> DistinctCounter<R> mapToDistinctCounter(Collection<T> values, Function<T, R> mapper,
+                                                                 ToLongFunction<? super R> hasher) {
+        return mapToDistinctCounter(toStream(values), mapper, hasher);
+    }
+
+    /**
+     * <p>Retorna um {@link DistinctCounter} com os elementos resultantes da aplicação
+     * da função de mapeamento sobre a {@link java.util.stream.Stream} informada, usando
+     * a função de hash de 64 bits informada. Caso a stream seja paralela, cada partição
+     * usa seu próprio contador e os resultados são combinados ao final.</p>
+     *
+     * @param values É a {@link java.util.stream.Stream} que deve ser mapeada
+     * @param mapper É a função de mapeamento
+     * @param hasher É a função de hash de 64 bits dos elementos mapeados
+     * @return um {@link DistinctCounter} com a precisão padrão
+     */
+    public static <T, R> DistinctCounter<R> mapToDistinctCounter(Stream<T> values, Function<T, R> mapper,
+                                                                 ToLongFunction<? super R> hasher) {
+        requireNonNull(hasher, HASHER);
+        return map(values, mapper).collect(() -> new DistinctCounter<>(DistinctCounter.DEFAULT_PRECISION, hasher),
+                DistinctCounter::add, DistinctCounter::merge);
+    }
+
+    /**
+     * <p>Retorna um {@link BloomFilter} com os elementos resultantes da aplicação da
+     * função de mapeamento sobre a coleção informada. Alternativa aproximada, com
+     * memória reduzida, a {@code mapToSet(values, mapper).contains(value)}.</p>
+     *
+     * @param values            É a coleção que deve ser mapeada
+     * @param mapper            É a função de mapeamento
+     * @param falsePositiveRate É a taxa de falso positivo desejada
+     * @return um {@link BloomFilter} dimensionado para o tamanho da coleção
+     */
+    public static <T, R> BloomFilter<R> mapToBloomFilter(Collection<T> values, Function<T, R> mapper,
+                                                         double falsePositiveRate) {
+        return mapToBloomFilter(toStream(values), mapper, Math.max(1, values.size()), falsePositiveRate);
+    }
+
+    /**
+     * <p>Retorna um {@link BloomFilter} com os elementos resultantes da aplicação da
+     * função de mapeamento sobre a {@link java.util.stream.Stream} informada. Caso a
+     * stream seja paralela, todas as partições inserem no mesmo filtro.</p>
+     *
+     * @param values             É a {@link java.util.stream.Stream} que deve ser mapeada
+     * @param mapper             É a função de mapeamento
+     * @param expectedInsertions É a quantidade esperada de elementos
+     * @param falsePositiveRate  É a taxa de falso positivo desejada
+     * @return um {@link BloomFilter}
+     */
+    public static <T, R> BloomFilter<R> mapToBloomFilter(Stream<T> values, Function<T, R> mapper,
+                                                         long expectedInsertions, double falsePositiveRate) {
+        return fill(values, mapper, new BloomFilter<>(expectedInsertions, falsePositiveRate));
+    }
+
+    /**
+     * <p>Retorna um {@link BloomFilter} com os elementos resultantes da aplicação da
+     * função de mapeamento sobre a coleção informada, usando a função de hash de
+     * 64 bits informada. Necessário para chaves compostas e demais tipos sem hash
+     * próprio de 64 bits.</p>
+     *
+     * @param values            É a coleção que deve ser mapeada
+     * @param mapper            É a função de mapeamento
+     * @param falsePositiveRate É a taxa de falso positivo desejada
+     * @param hasher            É a função de hash de 64 bits dos elementos mapeados
+     * @return um {@link BloomFilter} dimensionado para o tamanho da coleção
+     */
+    public static <T, R> BloomFilter<R> mapToBloomFilter(Collection<T> values, Function<T, R> mapper,
+                                                         double falsePositiveRate, ToLongFunction<? super R> hasher) {
+        return mapToBloomFilter(toStream(values), mapper, Math.max(1, values.size()), falsePositiveRate, hasher);
+    }
+
+    /**
+     * <p>Retorna um {@link BloomFilter} com os elementos resultantes da aplicação da
+     * função de mapeamento sobre a {@link java.util.stream.Stream} informada, usando a
+     * função de hash de 64 bits informada. Caso a stream seja paralela, todas as
+     * partições inserem no mesmo filtro.</p>
+     *
+     * @param values             É a {@link java.util.stream.Stream} que deve ser mapeada
+     * @param mapper             É a função de mapeamento
+     * @param expectedInsertions É a quantidade esperada de elementos
+     * @param falsePositiveRate  É a taxa de falso positivo desejada
+     * @param hasher             É a função de hash de 64 bits dos elementos mapeados
+     * @return um {@link BloomFilter}
+     */
+    public static <T, R> BloomFilter<R> mapToBloomFilter(Stream<T> values, Function<T, R> mapper,
+                                                         long expectedInsertions, double falsePositiveRate,
+                                                         ToLongFunction<? super R> hasher) {
+        return fill(values, mapper, new BloomFilter<>(expectedInsertions, falsePositiveRate,
+                requireNonNull(hasher, HASHER)));
+    }
+
+    private static <T, R> BloomFilter<R> fill(Stream<T> values, Function<T, R> mapper, BloomFilter<R> filter) {
+        map(values, mapper).forEach(filter::put);
+        return filter;
+    }
+
     /**
      * <p>Obtém quantidade total de registros resultantes da aplicação do filtro
      * sobre a coleção.</p>
@@ -340,8 +588,461 @@ public final class CollectionUtil {
         return requireNonNull(values).anyMatch(requireNonNull(predicate, PREDICATE));
     }
 
+    /**
+     * <p>Retorna os {@code k} maiores elementos da coleção, segundo o comparador
+     * informado, do maior para o menor. Usa um heap limitado, em tempo O(n log k) e
+     * memória O(k), sem ordenar a coleção inteira.</p>
+     *
+     * @param values     É a coleção de elementos
+     * @param k          É a quantidade de elementos desejada
+     * @param comparator É o comparador aplicado sobre os elementos
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> topK(Collection<T> values, int k, Comparator<? super T> comparator) {
+        return topK(toStream(values), Math.min(k, values.size()), comparator);
+    }
+
+    /**
+     * <p>Retorna os {@code k} maiores elementos da {@link java.util.stream.Stream},
+     * segundo o comparador informado, do maior para o menor. Caso a stream seja
+     * paralela, cada partição mantém seu próprio heap e os resultados são combinados
+     * ao final.</p>
+     *
+     * @param values     É a {@link java.util.stream.Stream} de elementos
+     * @param k          É a quantidade de elementos desejada
+     * @param comparator É o comparador aplicado sobre os elementos
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> topK(Stream<T> values, int k, Comparator<? super T> comparator) {
+        requireNonNull(comparator, COMPARATOR);
+        kValidate(k);
+        return requireNonNull(values).collect(() -> new BoundedHeap<T>(k, comparator),
+                BoundedHeap::offer, BoundedHeap::merge).toList();
+    }
+
+    /**
+     * <p>Retorna os {@code k} menores elementos da coleção, segundo o comparador
+     * informado, do menor para o maior.</p>
+     *
+     * @param values     É a coleção de elementos
+     * @param k          É a quantidade de elementos desejada
+     * @param comparator É o comparador aplicado sobre os elementos
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> bottomK(Collection<T> values, int k, Comparator<? super T> comparator) {
+        return topK(values, k, reverse(comparator));
+    }
+
+    /**
+     * <p>Retorna os {@code k} menores elementos da {@link java.util.stream.Stream},
+     * segundo o comparador informado, do menor para o maior.</p>
+     *
+     * @param values     É a {@link java.util.stream.Stream} de elementos
+     * @param k          É a quantidade de elementos desejada
+     * @param comparator É o comparador aplicado sobre os elementos
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> bottomK(Stream<T> values, int k, Comparator<? super T> comparator) {
+        return topK(values, k, reverse(comparator));
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da coleção com as maiores chaves {@code long},
+     * da maior para a menor. As chaves são mantidas em um array primitivo, sem boxing.</p>
+     *
+     * @param values É a coleção de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> topKByLong(Collection<T> values, int k, ToLongFunction<? super T> key) {
+        return topKByLong(toStream(values), Math.min(k, values.size()), key);
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da {@link java.util.stream.Stream} com as
+     * maiores chaves {@code long}, da maior para a menor.</p>
+     *
+     * @param values É a {@link java.util.stream.Stream} de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> topKByLong(Stream<T> values, int k, ToLongFunction<? super T> key) {
+        requireNonNull(key, KEY);
+        return selectByLongKey(values, k, key);
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da coleção com as menores chaves {@code long},
+     * da menor para a maior.</p>
+     *
+     * @param values É a coleção de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> bottomKByLong(Collection<T> values, int k, ToLongFunction<? super T> key) {
+        return bottomKByLong(toStream(values), Math.min(k, values.size()), key);
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da {@link java.util.stream.Stream} com as
+     * menores chaves {@code long}, da menor para a maior.</p>
+     *
+     * @param values É a {@link java.util.stream.Stream} de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> bottomKByLong(Stream<T> values, int k, ToLongFunction<? super T> key) {
+        requireNonNull(key, KEY);
+        return selectByLongKey(values, k, value -> ~key.applyAsLong(value));
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da coleção com as maiores chaves {@code double},
+     * da maior para a menor, segundo a ordenação de {@link Double#compare(double, double)}.</p>
+     *
+     * @param values É a coleção de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> topKByDouble(Collection<T> values, int k, ToDoubleFunction<? super T> key) {
+        return topKByDouble(toStream(values), Math.min(k, values.size()), key);
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da {@link java.util.stream.Stream} com as
+     * maiores chaves {@code double}, da maior para a menor.</p>
+     *
+     * @param values É a {@link java.util.stream.Stream} de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> topKByDouble(Stream<T> values, int k, ToDoubleFunction<? super T> key) {
+        requireNonNull(key, KEY);
+        return selectByLongKey(values, k, value -> LongKeyedHeap.sortableKey(key.applyAsDouble(value)));
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da coleção com as menores chaves {@code double},
+     * da menor para a maior.</p>
+     *
+     * @param values É a coleção de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> bottomKByDouble(Collection<T> values, int k, ToDoubleFunction<? super T> key) {
+        return bottomKByDouble(toStream(values), Math.min(k, values.size()), key);
+    }
+
+    /**
+     * <p>Retorna os {@code k} elementos da {@link java.util.stream.Stream} com as
+     * menores chaves {@code double}, da menor para a maior.</p>
+     *
+     * @param values É a {@link java.util.stream.Stream} de elementos
+     * @param k      É a quantidade de elementos desejada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return uma {@link java.util.List} com até {@code k} elementos
+     */
+    public static <T> List<T> bottomKByDouble(Stream<T> values, int k, ToDoubleFunction<? super T> key) {
+        requireNonNull(key, KEY);
+        return selectByLongKey(values, k, value -> ~LongKeyedHeap.sortableKey(key.applyAsDouble(value)));
+    }
+
+    /**
+     * <p>Cria um índice hash dos elementos da coleção pela chave informada. Cada
+     * chave deve referenciar um único elemento.</p>
+     *
+     * @param values É a coleção que deve ser indexada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return um {@link java.util.Map} da chave para o elemento
+     * @throws IllegalStateException caso existam chaves duplicadas
+     */
+    public static <T, K> Map<K, T> indexBy(Collection<T> values, Function<T, K> key) {
+        return toStream(values).collect(toMap(requireNonNull(key, KEY), Function.identity()));
+    }
+
+    /**
+     * <p>Cria um índice hash dos elementos da coleção pela chave informada. Cada
+     * chave pode referenciar vários elementos, mantidos na ordem da coleção.</p>
+     *
+     * @param values É a coleção que deve ser indexada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return um {@link java.util.Map} da chave para os elementos
+     */
+    public static <T, K> Map<K, List<T>> groupIndexBy(Collection<T> values, Function<T, K> key) {
+        return toStream(values).collect(groupingBy(requireNonNull(key, KEY)));
+    }
+
+    /**
+     * <p>Cria um {@link LongIndex} dos elementos da coleção pela chave {@code long}
+     * informada. Cada chave deve referenciar um único elemento.</p>
+     *
+     * @param values É a coleção que deve ser indexada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return um {@link LongIndex}
+     * @throws IllegalStateException caso existam chaves duplicadas
+     */
+    public static <T> LongIndex<T> indexByLong(Collection<T> values, ToLongFunction<? super T> key) {
+        return buildLongIndex(values, key, true);
+    }
+
+    /**
+     * <p>Cria um {@link LongIndex} dos elementos da coleção pela chave {@code long}
+     * informada. Cada chave pode referenciar vários elementos.</p>
+     *
+     * @param values É a coleção que deve ser indexada
+     * @param key    É a função que extrai a chave de cada elemento
+     * @return um {@link LongIndex}
+     */
+    public static <T> LongIndex<T> groupIndexByLong(Collection<T> values, ToLongFunction<? super T> key) {
+        return buildLongIndex(values, key, false);
+    }
+
+    /**
+     * <p>Junta as coleções informadas pelas chaves extraídas de cada lado, retornando
+     * apenas os pares com chaves iguais. A coleção da direita é indexada uma única vez
+     * e a da esquerda é percorrida em uma única passada, em tempo O(n + m). Chaves
+     * {@code null} nunca correspondem a outro elemento.</p>
+     *
+     * @param left     É a coleção da esquerda
+     * @param right    É a coleção da direita
+     * @param leftKey  É a função que extrai a chave dos elementos da esquerda
+     * @param rightKey É a função que extrai a chave dos elementos da direita
+     * @param joiner   É a função que combina cada par de elementos
+     * @return uma {@link java.util.List} com os pares combinados
+     */
+    public static <L, R, K, J> List<J> innerJoin(Collection<L> left, Collection<R> right, Function<L, K> leftKey,
+                                                 Function<R, K> rightKey, BiFunction<L, R, J> joiner) {
+        return join(left, right, leftKey, rightKey, joiner, false);
+    }
+
+    /**
+     * <p>Junta as coleções informadas pelas chaves extraídas de cada lado, retornando
+     * todos os elementos da esquerda. Elementos da esquerda sem correspondência,
+     * inclusive os de chave {@code null}, são combinados com {@code null}.</p>
+     *
+     * @param left     É a coleção da esquerda
+     * @param right    É a coleção da direita
+     * @param leftKey  É a função que extrai a chave dos elementos da esquerda
+     * @param rightKey É a função que extrai a chave dos elementos da direita
+     * @param joiner   É a função que combina cada par de elementos
+     * @return uma {@link java.util.List} com os pares combinados
+     */
+    public static <L, R, K, J> List<J> leftJoin(Collection<L> left, Collection<R> right, Function<L, K> leftKey,
+                                                Function<R, K> rightKey, BiFunction<L, R, J> joiner) {
+        return join(left, right, leftKey, rightKey, joiner, true);
+    }
+
+    /**
+     * <p>Junta as coleções informadas pelas chaves {@code long} extraídas de cada lado,
+     * retornando apenas os pares com chaves iguais. A coleção da direita é indexada em
+     * um {@link LongIndex}, sem boxing das chaves.</p>
+     *
+     * @param left     É a coleção da esquerda
+     * @param right    É a coleção da direita
+     * @param leftKey  É a função que extrai a chave dos elementos da esquerda
+     * @param rightKey É a função que extrai a chave dos elementos da direita
+     * @param joiner   É a função que combina cada par de elementos
+     * @return uma {@link java.util.List} com os pares combinados
+     */
+    public static <L, R, J> List<J> innerJoinByLong(Collection<L> left, Collection<R> right,
+                                                    ToLongFunction<? super L> leftKey,
+                                                    ToLongFunction<? super R> rightKey, BiFunction<L, R, J> joiner) {
+        return joinByLong(left, right, leftKey, rightKey, joiner, false);
+    }
+
+    /**
+     * <p>Junta as coleções informadas pelas chaves {@code long} extraídas de cada lado,
+     * retornando todos os elementos da esquerda. Elementos da esquerda sem
+     * correspondência são combinados com {@code null}.</p>
+     *
+     * @param left     É a coleção da esquerda
+     * @param right    É a coleção da direita
+     * @param leftKey  É a função que extrai a chave dos elementos da esquerda
+     * @param rightKey É a função que extrai a chave dos elementos da direita
+     * @param joiner   É a função que combina cada par de elementos
+     * @return uma {@link java.util.List} com os pares combinados
+     */
+    public static <L, R, J> List<J> leftJoinByLong(Collection<L> left, Collection<R> right,
+                                                   ToLongFunction<? super L> leftKey,
+                                                   ToLongFunction<? super R> rightKey, BiFunction<L, R, J> joiner) {
+        return joinByLong(left, right, leftKey, rightKey, joiner, true);
+    }
+
+    /**
+     * <p>Compara duas versões de uma coleção pela chave informada, usando
+     * {@link java.util.Objects#equals(Object, Object)} para detectar elementos alterados.</p>
+     *
+     * @param previous É a versão anterior da coleção
+     * @param current  É a versão atual da coleção
+     * @param key      É a função que extrai a chave, única em cada versão, de cada elemento
+     * @return um {@link CollectionDiff}
+     * @see #diff(Collection, Collection, Function, BiPredicate)
+     */
+    public static <T, K> CollectionDiff<T> diff(Collection<T> previous, Collection<T> current, Function<T, K> key) {
+        return diff(previous, current, key, Objects::equals);
+    }
+
+    /**
+     * <p>Compara duas versões de uma coleção pela chave informada. A versão anterior é
+     * indexada uma única vez e a atual é percorrida em uma única passada, em tempo
+     * O(n + m). As partições preservam a ordem das coleções.</p>
+     *
+     * @param previous É a versão anterior da coleção
+     * @param current  É a versão atual da coleção
+     * @param key      É a função que extrai a chave, única em cada versão, de cada elemento
+     * @param equality É o predicado que indica se as duas versões de um elemento são iguais
+     * @return um {@link CollectionDiff}
+     * @throws IllegalStateException caso existam chaves duplicadas em alguma das versões
+     */
+    public static <T, K> CollectionDiff<T> diff(Collection<T> previous, Collection<T> current, Function<T, K> key,
+                                                BiPredicate<? super T, ? super T> equality) {
+        requireNonNull(key, KEY);
+        requireNonNull(equality, EQUALITY);
+        Map<K, Object> index = new LinkedHashMap<>();
+        for (T value : requireNonNull(previous)) {
+            K valueKey = key.apply(value);
+            if (index.putIfAbsent(valueKey, mask(value)) != null)
+                throw new IllegalStateException("Duplicate key " + valueKey);
+        }
+        List<T> added = new ArrayList<>();
+        List<CollectionDiff.Change<T>> changed = new ArrayList<>();
+        for (T value : requireNonNull(current)) {
+            K valueKey = key.apply(value);
+            Object old = index.put(valueKey, MATCHED);
+            if (old == MATCHED)
+                throw new IllegalStateException("Duplicate key " + valueKey);
+            if (old == null)
+                added.add(value);
+            else if (!equality.test(unmask(old), value))
+                changed.add(new CollectionDiff.Change<>(unmask(old), value));
+        }
+        List<T> removed = new ArrayList<>();
+        for (Object old : index.values())
+            if (old != MATCHED)
+                removed.add(unmask(old));
+        return new CollectionDiff<>(added, removed, changed);
+    }
+
+    /**
+     * <p>Compara duas versões de uma coleção pela chave informada, considerando
+     * alterados os elementos cujo hash de conteúdo difere.</p>
+     *
+     * @param previous É a versão anterior da coleção
+     * @param current  É a versão atual da coleção
+     * @param key      É a função que extrai a chave, única em cada versão, de cada elemento
+     * @param hasher   É a função que calcula o hash do conteúdo de cada elemento
+     * @return um {@link CollectionDiff}
+     */
+    public static <T, K> CollectionDiff<T> diffByHash(Collection<T> previous, Collection<T> current,
+                                                      Function<T, K> key, ToLongFunction<? super T> hasher) {
+        requireNonNull(hasher, HASHER);
+        return diff(previous, current, key, (a, b) -> hasher.applyAsLong(a) == hasher.applyAsLong(b));
+    }
+
+    /**
+     * <p>Compara duas versões de uma coleção já ordenadas pela chave, intercalando-as em
+     * uma única passada, sem índice hash.</p>
+     *
+     * @param previous É a versão anterior da coleção, ordenada pela chave
+     * @param current  É a versão atual da coleção, ordenada pela chave
+     * @param key      É a função que extrai a chave, única em cada versão, de cada elemento
+     * @param keyOrder É a ordenação das chaves
+     * @param equality É o predicado que indica se as duas versões de um elemento são iguais
+     * @return um {@link CollectionDiff}
+     * @throws IllegalStateException caso seja detectada uma chave fora de ordem ou duplicada
+     *                               durante a intercalação
+     */
+    public static <T, K> CollectionDiff<T> diffSorted(Collection<T> previous, Collection<T> current,
+                                                      Function<T, K> key, Comparator<? super K> keyOrder,
+                                                      BiPredicate<? super T, ? super T> equality) {
+        requireNonNull(key, KEY);
+        requireNonNull(keyOrder, COMPARATOR);
+        requireNonNull(equality, EQUALITY);
+        SortedCursor<T, K> olds = new SortedCursor<>("previous", requireNonNull(previous).iterator(), key, keyOrder);
+        SortedCursor<T, K> news = new SortedCursor<>("current", requireNonNull(current).iterator(), key, keyOrder);
+        List<T> added = new ArrayList<>();
+        List<T> removed = new ArrayList<>();
+        List<CollectionDiff.Change<T>> changed = new ArrayList<>();
+        while (olds.hasValue && news.hasValue) {
+            int order = keyOrder.compare(olds.key, news.key);
+            if (order < 0)
+                removed.add(olds.value);
+            else if (order > 0)
+                added.add(news.value);
+            else if (!equality.test(olds.value, news.value))
+                changed.add(new CollectionDiff.Change<>(olds.value, news.value));
+            if (order <= 0)
+                olds.advance();
+            if (order >= 0)
+                news.advance();
+        }
+        for (; olds.hasValue; olds.advance())
+            removed.add(olds.value);
+        for (; news.hasValue; news.advance())
+            added.add(news.value);
+        return new CollectionDiff<>(added, removed, changed);
+    }
+
+    /**
+     * <p>Compara duas versões de uma coleção pela chave informada usando streams
+     * paralelas, para coleções muito grandes. As partições preservam a ordem das
+     * coleções. Assim como os demais modos, aceita chaves e elementos {@code null}.</p>
+     *
+     * @param previous É a versão anterior da coleção
+     * @param current  É a versão atual da coleção
+     * @param key      É a função que extrai a chave, única em cada versão, de cada elemento
+     * @param equality É o predicado que indica se as duas versões de um elemento são iguais
+     * @return um {@link CollectionDiff}
+     * @throws IllegalStateException caso existam chaves duplicadas em alguma das versões
+     */
+    public static <T, K> CollectionDiff<T> parallelDiff(Collection<T> previous, Collection<T> current,
+                                                        Function<T, K> key,
+                                                        BiPredicate<? super T, ? super T> equality) {
+        requireNonNull(key, KEY);
+        requireNonNull(equality, EQUALITY);
+        Map<Object, Object> olds = requireNonNull(previous).parallelStream()
+                .collect(toConcurrentMap(value -> mask(key.apply(value)), CollectionUtil::mask));
+        Map<Object, Object> news = requireNonNull(current).parallelStream()
+                .collect(toConcurrentMap(value -> mask(key.apply(value)), CollectionUtil::mask));
+        List<T> added = current.parallelStream()
+                .filter(value -> !olds.containsKey(mask(key.apply(value))))
+                .collect(toList());
+        List<T> removed = previous.parallelStream()
+                .filter(old -> !news.containsKey(mask(key.apply(old))))
+                .collect(toList());
+        List<CollectionDiff.Change<T>> changed = current.parallelStream()
+                .map(value -> {
+                    Object old = olds.get(mask(key.apply(value)));
+                    return old != null && !equality.test(unmask(old), value)
+                            ? new CollectionDiff.Change<T>(unmask(old), value) : null;
+                })
+                .filter(Objects::nonNull)
+                .collect(toList());
+        return new CollectionDiff<>(added, removed, changed);
+    }
+
     /* private methods */
 
+    /**
+     * <p>Substitui {@code null} por um sentinela, para chaves e valores de mapas que
+     * não os aceitam ou que usam {@code null} como ausência.</p>
+     */
+    private static Object mask(Object value) {
+        return value != null ? value : NULL;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object value) {
+        return value != NULL ? (T) value : null;
+    }
+
     /**
      * <p>Obtém {@link java.util.stream.Stream} de {@link java.util.Collection}.</p>
      *
@@ -352,4 +1053,162 @@ public final class CollectionUtil {
     private static <T> Stream<T> toStream(Collection<T> values) {
         return requireNonNull(values).stream();
     }
+
+    /**
+     * <p>Cria um {@link LongIndex} dos elementos da coleção.</p>
+     *
+     * @param values Coleção de elementos
+     * @param key    Função que extrai a chave de cada elemento
+     * @param unique Indica se as chaves devem ser únicas
+     * @return {@link LongIndex}
+     */
+    private static <T> LongIndex<T> buildLongIndex(Collection<T> values, ToLongFunction<? super T> key,
+                                                   boolean unique) {
+        requireNonNull(key, KEY);
+        LongIndex<T> index = new LongIndex<>(requireNonNull(values).size());
+        for (T value : values)
+            index.put(key.applyAsLong(value), value, unique);
+        return index;
+    }
+
+    /**
+     * <p>Junta as coleções usando um índice hash da coleção da direita.</p>
+     *
+     * @param left     Coleção da esquerda
+     * @param right    Coleção da direita
+     * @param leftKey  Função que extrai a chave dos elementos da esquerda
+     * @param rightKey Função que extrai a chave dos elementos da direita
+     * @param joiner   Função que combina cada par de elementos
+     * @param outer    Indica se os elementos da esquerda sem correspondência devem ser mantidos
+     * @return {@link java.util.List} com os pares combinados
+     */
+    private static <L, R, K, J> List<J> join(Collection<L> left, Collection<R> right, Function<L, K> leftKey,
+                                             Function<R, K> rightKey, BiFunction<L, R, J> joiner, boolean outer) {
+        requireNonNull(leftKey, KEY);
+        requireNonNull(joiner, JOINER);
+        requireNonNull(rightKey, KEY);
+        Map<K, List<R>> index = new HashMap<>();
+        for (R value : requireNonNull(right)) {
+            K key = rightKey.apply(value);
+            if (key != null)
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+        List<J> joined = new ArrayList<>(requireNonNull(left).size());
+        for (L value : left) {
+            K key = leftKey.apply(value);
+            List<R> matches = key != null ? index.get(key) : null;
+            if (matches != null)
+                for (R match : matches)
+                    joined.add(joiner.apply(value, match));
+            else if (outer)
+                joined.add(joiner.apply(value, null));
+        }
+        return joined;
+    }
+
+    /**
+     * <p>Junta as coleções usando um {@link LongIndex} da coleção da direita.</p>
+     *
+     * @param left     Coleção da esquerda
+     * @param right    Coleção da direita
+     * @param leftKey  Função que extrai a chave dos elementos da esquerda
+     * @param rightKey Função que extrai a chave dos elementos da direita
+     * @param joiner   Função que combina cada par de elementos
+     * @param outer    Indica se os elementos da esquerda sem correspondência devem ser mantidos
+     * @return {@link java.util.List} com os pares combinados
+     */
+    private static <L, R, J> List<J> joinByLong(Collection<L> left, Collection<R> right,
+                                                ToLongFunction<? super L> leftKey, ToLongFunction<? super R> rightKey,
+                                                BiFunction<L, R, J> joiner, boolean outer) {
+        requireNonNull(leftKey, KEY);
+        requireNonNull(joiner, JOINER);
+        LongIndex<R> index = groupIndexByLong(right, rightKey);
+        List<J> joined = new ArrayList<>(requireNonNull(left).size());
+        for (L value : left) {
+            boolean matched = index.forEach(leftKey.applyAsLong(value), match -> joined.add(joiner.apply(value, match)));
+            if (!matched && outer)
+                joined.add(joiner.apply(value, null));
+        }
+        return joined;
+    }
+
+    /**
+     * <p>Seleciona os {@code k} elementos de maior chave {@code long} usando um
+     * {@link LongKeyedHeap} por partição.</p>
+     *
+     * @param values {@link java.util.stream.Stream} de elementos
+     * @param k      Quantidade de elementos desejada
+     * @param key    Função que extrai a chave de cada elemento
+     * @return {@link java.util.List} da maior para a menor chave
+     */
+    private static <T> List<T> selectByLongKey(Stream<T> values, int k, ToLongFunction<? super T> key) {
+        kValidate(k);
+        return requireNonNull(values).collect(() -> new LongKeyedHeap<T>(k),
+                (heap, value) -> heap.offer(key.applyAsLong(value), value), LongKeyedHeap::merge).toList();
+    }
+
+    /**
+     * <p>Inverte o comparador informado, validando sua referência.</p>
+     *
+     * @param comparator Comparador
+     * @return comparador invertido
+     */
+    private static <T> Comparator<T> reverse(Comparator<? super T> comparator) {
+        requireNonNull(comparator, COMPARATOR);
+        return (a, b) -> comparator.compare(b, a);
+    }
+
+    /**
+     * <p>Valida se a quantidade de elementos desejada é válida.</p>
+     *
+     * @param k Quantidade de elementos
+     */
+    private static void kValidate(int k) {
+        if (k < 0)
+            throw new IllegalArgumentException("\"k\" argument is invalid");
+    }
+
+    /**
+     * <p>Cursor sobre uma coleção ordenada pela chave, usado por
+     * {@link #diffSorted(Collection, Collection, Function, Comparator, BiPredicate)}.
+     * O fim da coleção é indicado por {@link #hasValue}, de forma que elementos e
+     * chaves {@code null} são tratados como quaisquer outros.</p>
+     */
+    private static final class SortedCursor<T, K> {
+
+        private final String name;
+        private final Iterator<T> iterator;
+        private final Function<T, K> keyFunction;
+        private final Comparator<? super K> keyOrder;
+        private boolean hasValue;
+        private T value;
+        private K key;
+
+        private SortedCursor(String name, Iterator<T> iterator, Function<T, K> keyFunction,
+                             Comparator<? super K> keyOrder) {
+            this.name = name;
+            this.iterator = iterator;
+            this.keyFunction = keyFunction;
+            this.keyOrder = keyOrder;
+            this.hasValue = iterator.hasNext();
+            if (hasValue) {
+                value = iterator.next();
+                key = keyFunction.apply(value);
+            }
+        }
+
+        private void advance() {
+            hasValue = iterator.hasNext();
+            if (!hasValue)
+                return;
+            K previousKey = key;
+            value = iterator.next();
+            key = keyFunction.apply(value);
+            int order = keyOrder.compare(previousKey, key);
+            if (order == 0)
+                throw new IllegalStateException("Duplicate key " + key);
+            if (order > 0)
+                throw new IllegalStateException("\"" + name + "\" is not sorted by key at " + key);
+        }
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.nio.file.StandardOpenOption.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Alocação dos {@link java.nio.ByteBuffer} fora do heap usados pelas colunas
+ * {@link LongColumn} e {@link DoubleColumn}.
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+final class ColumnBuffers {
+
+    private static final MethodHandle RELEASE = releaseHandle();
+
+    private ColumnBuffers() {
+        throw new AssertionError("No ColumnBuffers instances for you!");
+    }
+
+    /**
+     * <p>Aloca um {@link java.nio.ByteBuffer} direto para a quantidade de linhas informada.</p>
+     *
+     * @param rows  Quantidade de linhas
+     * @param width Tamanho, em bytes, de cada linha
+     * @return {@link java.nio.ByteBuffer} direto, na ordem nativa de bytes
+     */
+    static ByteBuffer allocate(long rows, int width) {
+        return ByteBuffer.allocateDirect(capacity(rows, width)).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * <p>Mapeia em memória o arquivo informado com espaço para a quantidade de linhas
+     * informada. O conteúdo anterior do arquivo é descartado.</p>
+     *
+     * @param file  Arquivo que armazenará a coluna
+     * @param rows  Quantidade de linhas
+     * @param width Tamanho, em bytes, de cada linha
+     * @return {@link java.nio.ByteBuffer} mapeado, na ordem nativa de bytes
+     */
+    static ByteBuffer map(Path file, long rows, int width) {
+        requireNonNull(file, "file");
+        int capacity = capacity(rows, width);
+        try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity).order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * <p>Aloca um buffer direto maior e copia para ele o conteúdo do buffer informado,
+     * que é liberado em seguida.</p>
+     *
+     * @param buffer Buffer alocado por {@link #allocate(long, int)}
+     * @param rows   Nova quantidade de linhas
+     * @param width  Tamanho, em bytes, de cada linha
+     * @return novo {@link java.nio.ByteBuffer} direto
+     */
+    static ByteBuffer grow(ByteBuffer buffer, long rows, int width) {
+        ByteBuffer grown = allocate(rows, width);
+        // via Buffer, pois a partir do Java 9 ByteBuffer sobrescreve clear() e limit(int)
+        ByteBuffer source = buffer.duplicate();
+        ((Buffer) source).clear();
+        grown.put(source);
+        ((Buffer) grown).clear();
+        release(buffer);
+        return grown;
+    }
+
+    /**
+     * <p>Restringe o buffer às primeiras linhas informadas.</p>
+     *
+     * @param buffer Buffer da coluna
+     * @param rows   Quantidade de linhas
+     * @param width  Tamanho, em bytes, de cada linha
+     * @return o próprio buffer
+     */
+    static ByteBuffer limit(ByteBuffer buffer, int rows, int width) {
+        ((Buffer) buffer).limit(rows * width);
+        return buffer;
+    }
+
+    /**
+     * <p>Grava no armazenamento as alterações de um buffer mapeado em memória. Buffers
+     * diretos não são afetados.</p>
+     *
+     * @param buffer Buffer da coluna
+     */
+    static void force(ByteBuffer buffer) {
+        if (buffer instanceof MappedByteBuffer)
+            ((MappedByteBuffer) buffer).force();
+    }
+
+    /**
+     * <p>Libera imediatamente a memória de um buffer direto ou o mapeamento de um
+     * arquivo, sem aguardar o GC. O buffer não pode mais ser acessado. Caso a JVM não
+     * exponha o mecanismo de liberação, a memória é liberada pelo GC.</p>
+     *
+     * @param buffer Buffer alocado por esta classe
+     */
+    static void release(ByteBuffer buffer) {
+        if (RELEASE == null)
+            return;
+        try {
+            RELEASE.invokeExact(buffer);
+        } catch (Throwable e) {
+            // buffer sem cleaner, como um mapeamento vazio: a liberação fica com o GC
+        }
+    }
+
+    /**
+     * <p>Localiza o mecanismo de liberação de buffers diretos: o
+     * {@code Unsafe.invokeCleaner} a partir do Java 9 ou o
+     * {@code DirectBuffer.cleaner().clean()} no Java 8.</p>
+     */
+    private static MethodHandle releaseHandle() {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Field unsafe = unsafeType.getDeclaredField("theUnsafe");
+            unsafe.setAccessible(true);
+            return lookup.findVirtual(unsafeType, "invokeCleaner", methodType(void.class, ByteBuffer.class))
+                    .bindTo(unsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 8
+        }
+        try {
+            Class<?> cleanerType = Class.forName("sun.misc.Cleaner");
+            MethodHandle cleaner = lookup.findVirtual(Class.forName("sun.nio.ch.DirectBuffer"), "cleaner",
+                    methodType(cleanerType));
+            MethodHandle clean = lookup.findVirtual(cleanerType, "clean", methodType(void.class));
+            return MethodHandles.filterReturnValue(cleaner, clean).asType(methodType(void.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * <p>Calcula a capacidade, em bytes, de uma coluna. Um único buffer é limitado a
+     * {@link Integer#MAX_VALUE} bytes.</p>
+     */
+    private static int capacity(long rows, int width) {
+        long capacity = rows * width;
+        if (rows < 0 || capacity > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("\"rows\" argument is invalid: " + rows);
+        return (int) capacity;
+    }
+}
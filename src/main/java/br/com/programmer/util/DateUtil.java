@@ -94,6 +94,17 @@ public final class DateUtil {
         return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
     }
 
+    /**
+     * <p>Converte {@link java.time.LocalDateTime} em milissegundos desde a poca (epoch).</p>
+     *
+     * @param localDateTime {@link java.time.LocalDateTime} a ser convertido
+     * @return milissegundos desde 1970-01-01T00:00:00Z
+     */
+    public static long localDateTimeToEpochMilli(LocalDateTime localDateTime) {
+        requireNonNull(localDateTime, "localDateTime");
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     /**
      * <p>
      * Formata data no estilo completo, com o maior nmero de detalhes. Ex: Quarta-feira, 1 de Novembro de 2017.
@@ -0,0 +1,182 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Contador aproximado de elementos distintos baseado no algoritmo HyperLogLog.
+ * <p>
+ * A memória ocupada é fixa, 2<sup>precision</sup> bytes, independentemente da
+ * quantidade de elementos, e o erro padrão da estimativa é de aproximadamente
+ * {@code 1.04 / sqrt(2^precision)}:
+ * </p>
+ * <table summary="Precisão x memória x erro">
+ * <tr><th>precision</th><th>memória</th><th>erro padrão</th></tr>
+ * <tr><td>10</td><td>1 KB</td><td>3,25%</td></tr>
+ * <tr><td>12</td><td>4 KB</td><td>1,63%</td></tr>
+ * <tr><td>14</td><td>16 KB</td><td>0,81%</td></tr>
+ * <tr><td>16</td><td>64 KB</td><td>0,41%</td></tr>
+ * <tr><td>18</td><td>256 KB</td><td>0,20%</td></tr>
+ * <tr><td colspan="3">erros válidos apenas com hash de 64 bits bem distribuído, veja abaixo</td></tr>
+ * </table>
+ * <p>
+ * Os erros acima pressupõem um hash de 64 bits bem distribuído. Sem função de
+ * hash, apenas {@code null}, números, caracteres, {@link Boolean},
+ * {@link CharSequence}, {@link Enum} e {@link java.util.UUID} são aceitos; para
+ * chaves compostas, entidades e demais tipos, informe uma função de hash de
+ * 64 bits em {@link #DistinctCounter(int, ToLongFunction)}. O
+ * {@link Object#hashCode()} não é usado, pois com 32 bits a estimativa satura
+ * próximo de 2<sup>32</sup> valores e, na prática, bem antes disso, já que
+ * listas e registros com campos pequenos colidem com frequência.
+ * </p>
+ * <p>
+ * Instâncias não são thread-safe. Para partições paralelas, use um contador por
+ * partição e combine-os com {@link #merge(DistinctCounter)}.
+ * </p>
+ *
+ * @param <T> Tipo dos elementos contados
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#mapToDistinctCounter(java.util.Collection, java.util.function.Function)
+ * @since 1.0
+ */
+public final class DistinctCounter<T> {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    public static final int DEFAULT_PRECISION = 14;
+
+    private final int precision;
+    private final byte[] registers;
+    private final ToLongFunction<? super T> hasher;
+
+    /**
+     * <p>Cria um contador com a precisão padrão, {@value #DEFAULT_PRECISION}.</p>
+     */
+    public DistinctCounter() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * <p>Cria um contador com a precisão informada.</p>
+     *
+     * @param precision Quantidade de bits usados para endereçar os registradores,
+     *                  entre {@value #MIN_PRECISION} e {@value #MAX_PRECISION}
+     */
+    public DistinctCounter(int precision) {
+        this(precision, Hashing::bits);
+    }
+
+    /**
+     * <p>Cria um contador com a precisão e a função de hash informadas.</p>
+     *
+     * @param precision Quantidade de bits usados para endereçar os registradores,
+     *                  entre {@value #MIN_PRECISION} e {@value #MAX_PRECISION}
+     * @param hasher    Função de hash de 64 bits dos elementos. Elementos iguais devem
+     *                  produzir o mesmo valor e colisões entre elementos distintos
+     *                  reduzem a estimativa; o valor é espalhado pelo contador, de
+     *                  forma que identificadores sequenciais podem ser usados diretamente
+     */
+    public DistinctCounter(int precision, ToLongFunction<? super T> hasher) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION)
+            throw new IllegalArgumentException("\"precision\" argument is invalid");
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+        this.hasher = requireNonNull(hasher, "hasher");
+    }
+
+    /**
+     * <p>Registra um elemento no contador.</p>
+     *
+     * @param value Elemento, pode ser {@code null}
+     * @throws IllegalArgumentException caso o contador não tenha função de hash e o
+     *                                  tipo do elemento não seja suportado
+     */
+    public void add(T value) {
+        long hash = Hashing.mix(hasher.applyAsLong(value));
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (rank > registers[index])
+            registers[index] = rank;
+    }
+
+    /**
+     * <p>Combina os elementos registrados no contador informado com este contador.</p>
+     *
+     * @param other Contador com a mesma precisão
+     * @return este contador
+     */
+    public DistinctCounter<T> merge(DistinctCounter<T> other) {
+        if (other == null || other.precision != precision)
+            throw new IllegalArgumentException("\"other\" argument is invalid");
+        for (int i = 0; i < registers.length; i++)
+            if (other.registers[i] > registers[i])
+                registers[i] = other.registers[i];
+        return this;
+    }
+
+    /**
+     * <p>Retorna a estimativa da quantidade de elementos distintos registrados.</p>
+     *
+     * @return quantidade estimada de elementos distintos
+     */
+    public long count() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0)
+                zeros++;
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0)
+            estimate = m * Math.log((double) m / zeros);
+        return Math.round(estimate);
+    }
+
+    /**
+     * <p>Retorna a precisão do contador.</p>
+     *
+     * @return precisão
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * <p>Constante de correção de viés do HyperLogLog.</p>
+     */
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
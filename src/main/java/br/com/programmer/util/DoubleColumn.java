@@ -0,0 +1,236 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Collection;
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.DoubleStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Coluna de valores {@code double} armazenada fora do heap, em um
+ * {@link java.nio.ByteBuffer} direto ou em um arquivo mapeado em memória.
+ * <p>
+ * Apenas a referência ao buffer ocupa o heap, independentemente da quantidade de
+ * linhas, o que permite manter projeções numéricas grandes em memória para
+ * agregações repetidas sem pressionar o GC. Cada coluna é limitada a
+ * {@link Integer#MAX_VALUE} bytes.
+ * </p>
+ * <p>
+ * A memória fora do heap, ou o mapeamento do arquivo, é liberada imediatamente por
+ * {@link #close()}, sem aguardar o GC; após o fechamento, a coluna não pode mais
+ * ser usada. Fechar uma coluna enquanto outra thread a lê não é suportado.
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#projectToDouble(Collection, ToDoubleFunction)
+ * @since 1.0
+ */
+public final class DoubleColumn implements AutoCloseable {
+
+    static final int WIDTH = Double.BYTES;
+    private static final int FILTER_INITIAL_ROWS = 1024;
+
+    private final ByteBuffer buffer;
+    private final DoubleBuffer values;
+    private boolean closed;
+
+    private DoubleColumn(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.values = buffer.asDoubleBuffer();
+    }
+
+    /**
+     * <p>Projeta os elementos da coleção no buffer informado.</p>
+     *
+     * @param values É a coleção que deve ser projetada
+     * @param mapper É a função de mapeamento
+     * @param buffer É o buffer de destino, com capacidade para toda a coleção
+     * @return {@link DoubleColumn}
+     */
+    static <T> DoubleColumn of(Collection<T> values, ToDoubleFunction<? super T> mapper, ByteBuffer buffer) {
+        DoubleColumn column = new DoubleColumn(buffer);
+        int index = 0;
+        for (T value : values)
+            column.values.put(index++, mapper.applyAsDouble(value));
+        return column;
+    }
+
+    /**
+     * <p>Retorna a quantidade de linhas da coluna.</p>
+     *
+     * @return quantidade de linhas
+     */
+    public int size() {
+        checkOpen();
+        return values.capacity();
+    }
+
+    /**
+     * <p>Retorna o valor da linha informada.</p>
+     *
+     * @param index Índice da linha
+     * @return valor da linha
+     */
+    public double get(int index) {
+        checkOpen();
+        return values.get(index);
+    }
+
+    /**
+     * <p>Retorna a soma dos valores da coluna, com soma compensada (Kahan-Babuška), de
+     * forma que o erro de arredondamento não cresce com a quantidade de linhas, como em
+     * {@link java.util.stream.DoubleStream#sum()}.</p>
+     *
+     * @return soma dos valores
+     */
+    public double sum() {
+        double sum = 0;
+        double compensation = 0;
+        double simpleSum = 0;
+        for (int i = 0, size = size(); i < size; i++) {
+            double value = values.get(i);
+            double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value))
+                compensation += (sum - total) + value;
+            else
+                compensation += (value - total) + sum;
+            sum = total;
+            simpleSum += value;
+        }
+        double result = sum + compensation;
+        // infinitos de mesmo sinal tornam a compensação NaN
+        return Double.isNaN(result) && Double.isInfinite(simpleSum) ? simpleSum : result;
+    }
+
+    /**
+     * <p>Retorna o menor valor da coluna.</p>
+     *
+     * @return {@link java.util.OptionalDouble} vazio caso a coluna não tenha linhas
+     */
+    public OptionalDouble min() {
+        int size = size();
+        if (size == 0)
+            return OptionalDouble.empty();
+        double min = values.get(0);
+        for (int i = 1; i < size; i++)
+            min = Math.min(min, values.get(i));
+        return OptionalDouble.of(min);
+    }
+
+    /**
+     * <p>Retorna o maior valor da coluna.</p>
+     *
+     * @return {@link java.util.OptionalDouble} vazio caso a coluna não tenha linhas
+     */
+    public OptionalDouble max() {
+        int size = size();
+        if (size == 0)
+            return OptionalDouble.empty();
+        double max = values.get(0);
+        for (int i = 1; i < size; i++)
+            max = Math.max(max, values.get(i));
+        return OptionalDouble.of(max);
+    }
+
+    /**
+     * <p>Obtém a quantidade de linhas que sastifazem o predicado informado.</p>
+     *
+     * @param predicate É o filtro aplicado sobre a coluna
+     * @return quantidade de linhas
+     */
+    public long count(DoublePredicate predicate) {
+        requireNonNull(predicate, CollectionUtil.PREDICATE);
+        long count = 0;
+        for (int i = 0, size = size(); i < size; i++)
+            if (predicate.test(values.get(i)))
+                count++;
+        return count;
+    }
+
+    /**
+     * <p>Filtra a coluna com base no predicado informado, em uma única passada. O
+     * resultado é gravado em um novo {@link java.nio.ByteBuffer} direto, que cresce
+     * conforme as linhas são aceitas.</p>
+     *
+     * @param predicate É o filtro aplicado sobre a coluna
+     * @return nova {@link DoubleColumn} com as linhas que sastifazem o predicado
+     */
+    public DoubleColumn filter(DoublePredicate predicate) {
+        requireNonNull(predicate, CollectionUtil.PREDICATE);
+        int size = size();
+        ByteBuffer target = ColumnBuffers.allocate(Math.min(size, FILTER_INITIAL_ROWS), WIDTH);
+        DoubleBuffer filtered = target.asDoubleBuffer();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double value = values.get(i);
+            if (predicate.test(value)) {
+                if (count == filtered.capacity()) {
+                    target = ColumnBuffers.grow(target, Math.min(size, 2L * count), WIDTH);
+                    filtered = target.asDoubleBuffer();
+                }
+                filtered.put(count++, value);
+            }
+        }
+        return new DoubleColumn(ColumnBuffers.limit(target, count, WIDTH));
+    }
+
+    /**
+     * <p>Grava no arquivo as alterações de uma coluna mapeada em memória. Colunas
+     * armazenadas em buffer direto não são afetadas.</p>
+     */
+    public void force() {
+        checkOpen();
+        ColumnBuffers.force(buffer);
+    }
+
+    /**
+     * <p>Libera a memória fora do heap ou o mapeamento do arquivo da coluna. Chamadas
+     * subsequentes não têm efeito.</p>
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        ColumnBuffers.release(buffer);
+    }
+
+    /**
+     * <p>Retorna um {@link java.util.stream.DoubleStream} sobre os valores da coluna.</p>
+     *
+     * @return {@link java.util.stream.DoubleStream}
+     */
+    public DoubleStream stream() {
+        return IntStream.range(0, size()).mapToDouble(this::get);
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("DoubleColumn is closed");
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Rótulos localizados das constantes de um tipo {@link Enum} para um
+ * {@link java.util.Locale}, resolvidos uma única vez a partir de um
+ * {@link java.util.ResourceBundle}.
+ * <p>
+ * O {@link java.util.ResourceBundle} tem como nome base o nome binário do
+ * {@link Enum} (ex: {@code br/com/exemplo/Status_pt_BR.properties}) e as chaves são
+ * os nomes das constantes. Constantes sem rótulo, ou tipos sem
+ * {@link java.util.ResourceBundle}, usam {@link Enum#name()}. Instâncias são
+ * imutáveis e a consulta de um rótulo é uma leitura de array pelo ordinal.
+ * </p>
+ *
+ * @param <E> Tipo {@link Enum}
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see EnumUtil#labels(Class, Locale)
+ * @since 1.0
+ */
+public final class EnumLabels<E extends Enum<E>> {
+
+    private final Locale locale;
+    private final String[] labels;
+    private final List<E> sortedValues;
+
+    EnumLabels(Class<E> enumType, List<E> values, Locale locale) {
+        this.locale = locale;
+        this.labels = new String[values.size()];
+        ResourceBundle bundle = bundle(enumType, locale);
+        for (E value : values)
+            labels[value.ordinal()] = bundle != null && bundle.containsKey(value.name())
+                    ? bundle.getString(value.name()) : value.name();
+        Collator collator = Collator.getInstance(locale);
+        List<E> sorted = new ArrayList<>(values);
+        sorted.sort(comparing(this::get, collator));
+        this.sortedValues = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * <p>Retorna o rótulo da constante informada.</p>
+     *
+     * @param constant Constante do {@link Enum}
+     * @return rótulo localizado
+     */
+    public String get(E constant) {
+        return labels[constant.ordinal()];
+    }
+
+    /**
+     * <p>Retorna as constantes ordenadas pelo rótulo, segundo as regras de ordenação
+     * do {@link java.util.Locale}.</p>
+     *
+     * @return {@link java.util.List} imutável
+     */
+    public List<E> sortedValues() {
+        return sortedValues;
+    }
+
+    /**
+     * <p>Retorna o {@link java.util.Locale} dos rótulos.</p>
+     *
+     * @return {@link java.util.Locale}
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * <p>Carrega o {@link java.util.ResourceBundle} do {@link Enum}.</p>
+     *
+     * @return {@link java.util.ResourceBundle} ou {@code null} caso não exista
+     */
+    private static ResourceBundle bundle(Class<?> enumType, Locale locale) {
+        ClassLoader loader = enumType.getClassLoader();
+        try {
+            return ResourceBundle.getBundle(enumType.getName(), locale,
+                    loader != null ? loader : ClassLoader.getSystemClassLoader());
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um tipo {@link Enum} para o qual o processador de anotações do artefato
+ * {@code pia-util-java8-processor} deve gerar, em tempo de compilação, uma
+ * {@link EnumLookupTable} sem reflexão.
+ * <p>
+ * A classe gerada fica no mesmo pacote do {@link Enum}, com o nome binário do tipo
+ * trocando {@code $} por {@code _} e acrescido de {@value #SUFFIX}, e é usada
+ * automaticamente pelo {@link EnumUtil}. O {@link Enum} e seus tipos externos não
+ * podem ser {@code private}. Sem o processador, o {@link EnumUtil} monta a tabela
+ * por reflexão.
+ * </p>
+ * <p>
+ * O processador não é publicado neste JAR e deve ser declarado no build do
+ * projeto que usa a anotação, pois a descoberta implícita pelo classpath é
+ * desativada por padrão a partir do JDK 23:
+ * </p>
+ * <pre>{@code
+ * <plugin>
+ *     <groupId>org.apache.maven.plugins</groupId>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *         <annotationProcessorPaths>
+ *             <path>
+ *                 <groupId>br.com.programmer</groupId>
+ *                 <artifactId>pia-util-java8-processor</artifactId>
+ *                 <version>${pia-util.version}</version>
+ *             </path>
+ *         </annotationProcessorPaths>
+ *     </configuration>
+ * </plugin>
+ * }</pre>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface EnumLookup {
+
+    String SUFFIX = "_EnumLookup";
+
+    /**
+     * <p>Nome do método, sem parâmetros, que retorna o código de cada constante,
+     * usado por {@link EnumUtil#fromCode(Class, Object)}. Vazio quando o
+     * {@link Enum} não possui código.</p>
+     *
+     * @return nome do método de código
+     */
+    String code() default "";
+}
@@ -0,0 +1,74 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.List;
+
+/**
+ * Tabelas de consulta de um tipo {@link Enum}, geradas pelo processador de
+ * anotações do {@code pia-util-java8-processor} para os tipos anotados com
+ * {@link EnumLookup} ou montadas uma única vez por reflexão para os demais.
+ *
+ * @param <E> Tipo {@link Enum}
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+public interface EnumLookupTable<E extends Enum<E>> {
+
+    /**
+     * <p>Retorna as constantes na ordem de declaração.</p>
+     *
+     * @return {@link java.util.List} imutável
+     */
+    List<E> values();
+
+    /**
+     * <p>Retorna as constantes ordenadas pelo nome.</p>
+     *
+     * @return {@link java.util.List} imutável
+     */
+    List<E> sortedValues();
+
+    /**
+     * <p>Retorna a constante com o nome informado.</p>
+     *
+     * @param name Nome da constante
+     * @return constante ou {@code null} caso não exista
+     */
+    E byName(String name);
+
+    /**
+     * <p>Retorna a constante com o ordinal informado.</p>
+     *
+     * @param ordinal Ordinal da constante
+     * @return constante ou {@code null} caso não exista
+     */
+    E byOrdinal(int ordinal);
+
+    /**
+     * <p>Retorna a constante com o código informado, conforme {@link EnumLookup#code()}.</p>
+     *
+     * @param code Código da constante
+     * @return constante ou {@code null} caso não exista
+     * @throws UnsupportedOperationException caso o {@link Enum} não declare código
+     */
+    E byCode(Object code);
+}
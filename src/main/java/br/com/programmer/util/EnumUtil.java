@@ -20,14 +20,18 @@
  */
 package br.com.programmer.util;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Classe utilitária para manipulação de tipos {@link Enum}.
@@ -37,6 +41,20 @@ import static java.util.Objects.isNull;
  */
 public final class EnumUtil {
 
+    private static final ClassValue<EnumLookupTable<?>> LOOKUP_TABLES = new ClassValue<EnumLookupTable<?>>() {
+        @Override
+        protected EnumLookupTable<?> computeValue(Class<?> type) {
+            return createLookupTable(type);
+        }
+    };
+
+    private static final ClassValue<ConcurrentMap<Locale, EnumLabels<?>>> LABELS = new ClassValue<ConcurrentMap<Locale, EnumLabels<?>>>() {
+        @Override
+        protected ConcurrentMap<Locale, EnumLabels<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private EnumUtil() {
         throw new AssertionError("No EnumUtil instances for you!");
     }
@@ -49,8 +67,7 @@ public final class EnumUtil {
      * @return {@link java.util.stream.Stream} de um {@link Enum}
      */
     public static <T extends Enum<T>> Stream<T> toStream(Class<T> enumType) {
-        enumTypeValidate(enumType);
-        return Stream.of(enumType.getEnumConstants());
+        return lookup(enumType).values().stream();
     }
 
     /**
@@ -60,8 +77,7 @@ public final class EnumUtil {
      * @return {@link java.util.Map} de um {@link Enum}
      */
     public static <T extends Enum<T>> Map<Integer, String> toMap(Class<T> enumType) {
-        enumTypeValidate(enumType);
-        return Stream.of(enumType.getEnumConstants()).collect(Collectors.toMap(Enum::ordinal, Enum::name));
+        return toStream(enumType).collect(Collectors.toMap(Enum::ordinal, Enum::name));
     }
 
     /**
@@ -72,8 +88,7 @@ public final class EnumUtil {
      * @return {@link java.util.List} de um {@link Enum}
      */
     public static <T extends Enum<T>> List<T> toList(Class<T> enumType) {
-        enumTypeValidate(enumType);
-        return Arrays.asList(enumType.getEnumConstants());
+        return new ArrayList<>(lookup(enumType).values());
     }
 
     /**
@@ -84,21 +99,135 @@ public final class EnumUtil {
      * @return {@link java.util.List} de um {@link Enum}
      */
     public static <T extends Enum<T>> List<T> toSortedList(Class<T> enumType) {
+        return new ArrayList<>(lookup(enumType).sortedValues());
+    }
+
+    /**
+     * <p>Recupera os rótulos localizados de um tipo {@link Enum}. Os rótulos são
+     * resolvidos uma única vez por tipo e {@link java.util.Locale}.</p>
+     *
+     * @param enumType É o tipo {@link Enum}
+     * @param locale   É o {@link java.util.Locale} dos rótulos
+     * @return {@link EnumLabels} do {@link Enum}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Enum<T>> EnumLabels<T> labels(Class<T> enumType, Locale locale) {
+        requireNonNull(locale, "locale");
+        List<T> values = lookup(enumType).values();
+        return (EnumLabels<T>) LABELS.get(enumType).computeIfAbsent(locale, l -> new EnumLabels<>(enumType, values, l));
+    }
+
+    /**
+     * <p>Recupera o rótulo localizado de uma constante de um tipo {@link Enum}.</p>
+     *
+     * @param constant É a constante do {@link Enum}
+     * @param locale   É o {@link java.util.Locale} do rótulo
+     * @return rótulo localizado
+     */
+    public static <T extends Enum<T>> String getLabel(T constant, Locale locale) {
+        requireNonNull(constant, "constant");
+        return labels(constant.getDeclaringClass(), locale).get(constant);
+    }
+
+    /**
+     * <p>Recupera um {@link java.util.Map} do ordinal para o rótulo localizado de um
+     * tipo {@link Enum} informado.</p>
+     *
+     * @param enumType É o tipo {@link Enum}
+     * @param locale   É o {@link java.util.Locale} dos rótulos
+     * @return {@link java.util.Map} de um {@link Enum}
+     */
+    public static <T extends Enum<T>> Map<Integer, String> toLabelMap(Class<T> enumType, Locale locale) {
+        EnumLabels<T> labels = labels(enumType, locale);
+        return toStream(enumType).collect(Collectors.toMap(Enum::ordinal, labels::get));
+    }
+
+    /**
+     * <p>Recupera uma {@link java.util.List} de um tipo {@link Enum} informado,
+     * ordenada pelo rótulo localizado.</p>
+     *
+     * @param enumType É o tipo {@link Enum}
+     * @param locale   É o {@link java.util.Locale} dos rótulos
+     * @return {@link java.util.List} de um {@link Enum}
+     */
+    public static <T extends Enum<T>> List<T> toSortedListByLabel(Class<T> enumType, Locale locale) {
+        return new ArrayList<>(labels(enumType, locale).sortedValues());
+    }
+
+    /**
+     * <p>Recupera a constante de um tipo {@link Enum} pelo nome.</p>
+     *
+     * @param enumType É o tipo {@link Enum}
+     * @param name     É o nome da constante
+     * @return {@link java.util.Optional} da constante
+     */
+    public static <T extends Enum<T>> Optional<T> valueOf(Class<T> enumType, String name) {
+        return Optional.ofNullable(lookup(enumType).byName(name));
+    }
+
+    /**
+     * <p>Recupera a constante de um tipo {@link Enum} pelo ordinal.</p>
+     *
+     * @param enumType É o tipo {@link Enum}
+     * @param ordinal  É o ordinal da constante
+     * @return {@link java.util.Optional} da constante
+     */
+    public static <T extends Enum<T>> Optional<T> valueOf(Class<T> enumType, int ordinal) {
+        return Optional.ofNullable(lookup(enumType).byOrdinal(ordinal));
+    }
+
+    /**
+     * <p>Recupera a constante de um tipo {@link Enum} pelo código declarado em
+     * {@link EnumLookup#code()}.</p>
+     *
+     * @param enumType É o tipo {@link Enum}
+     * @param code     É o código da constante
+     * @return {@link java.util.Optional} da constante
+     * @throws UnsupportedOperationException caso o {@link Enum} não declare código
+     */
+    public static <T extends Enum<T>> Optional<T> fromCode(Class<T> enumType, Object code) {
+        return Optional.ofNullable(lookup(enumType).byCode(code));
+    }
+
+    /**
+     * <p>Recupera a {@link EnumLookupTable} de um tipo {@link Enum}. A tabela gerada
+     * pelo processador de anotações do {@code pia-util-java8-processor} é usada quando
+     * presente; caso contrário, uma tabela é montada por reflexão. Em ambos os casos a
+     * tabela é criada uma única vez por tipo.</p>
+     *
+     * @param enumType É o tipo {@link Enum}
+     * @return {@link EnumLookupTable} do {@link Enum}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Enum<T>> EnumLookupTable<T> lookup(Class<T> enumType) {
         enumTypeValidate(enumType);
-        return sort(Arrays.asList(enumType.getEnumConstants()));
+        return (EnumLookupTable<T>) LOOKUP_TABLES.get(enumType);
     }
 
     /**
-     * <p>Faz a ordenadação de uma {@link java.util.List}.</p>
+     * <p>Cria a {@link EnumLookupTable} de um tipo {@link Enum}. A tabela gerada é
+     * procurada diretamente pelo nome, sem ler as anotações do tipo.</p>
      *
-     * @param list É a {@link java.util.List} que deverá ser ordenada
-     * @return {@link java.util.List} ordenada
+     * @param enumType É o tipo {@link Enum}
+     * @return {@link EnumLookupTable} do {@link Enum}
      */
-    private static <T extends Enum<T>> List<T> sort(List<T> list) {
-        if (isNull(list) || list.isEmpty())
-            return list;
-        list.sort(comparing(Enum::name));
-        return list;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumLookupTable<?> createLookupTable(Class<?> enumType) {
+        if (!enumType.isEnum())
+            throw new IllegalArgumentException("\"enumType\" argument is invalid");
+        String binaryName = enumType.getName();
+        int simpleNameStart = binaryName.lastIndexOf('.') + 1;
+        String name = binaryName.substring(0, simpleNameStart)
+                + binaryName.substring(simpleNameStart).replace('$', '_') + EnumLookup.SUFFIX;
+        try {
+            return (EnumLookupTable<?>) Class.forName(name, true, enumType.getClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            // tipo não anotado ou processador não executado
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Invalid lookup table " + name, e);
+        }
+        return new ReflectiveEnumLookupTable(enumType);
     }
 
     /**
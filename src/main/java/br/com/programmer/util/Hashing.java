@@ -0,0 +1,101 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.UUID;
+
+/**
+ * Funções de hash de 64 bits usadas pelas estruturas probabilísticas
+ * {@link DistinctCounter} e {@link BloomFilter}.
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+final class Hashing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+        throw new AssertionError("No Hashing instances for you!");
+    }
+
+    /**
+     * <p>Converte o objeto informado em 64 bits a partir do próprio conteúdo, para
+     * uso como entrada do {@link #mix(long)}. São suportados {@code null}, números
+     * inteiros, {@link Double}, {@link Float}, {@link Character}, {@link Boolean},
+     * {@link CharSequence}, {@link Enum} e {@link UUID}. Os demais tipos, em especial
+     * chaves compostas, exigem uma função de hash informada pelo chamador, pois o
+     * {@link Object#hashCode()} tem apenas 32 bits e colide com frequência em listas
+     * e objetos com campos pequenos.</p>
+     *
+     * @param value Objeto, pode ser {@code null}
+     * @return conteúdo do objeto em 64 bits
+     * @throws IllegalArgumentException caso o tipo do objeto não seja suportado
+     */
+    static long bits(Object value) {
+        if (value == null)
+            return 0;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return ((Number) value).longValue();
+        if (value instanceof CharSequence)
+            return fnv((CharSequence) value);
+        if (value instanceof Double)
+            return Double.doubleToLongBits((Double) value);
+        if (value instanceof Float)
+            return Float.floatToIntBits((Float) value);
+        if (value instanceof Character)
+            return (Character) value;
+        if (value instanceof Boolean)
+            return (Boolean) value ? 1 : 0;
+        if (value instanceof Enum)
+            return fnv(((Enum<?>) value).name());
+        if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            return mix(uuid.getMostSignificantBits()) ^ uuid.getLeastSignificantBits();
+        }
+        throw new IllegalArgumentException("No 64-bit hash for " + value.getClass().getName()
+                + ", a hasher must be provided");
+    }
+
+    private static long fnv(CharSequence chars) {
+        long hash = FNV_OFFSET;
+        for (int i = 0, length = chars.length(); i < length; i++)
+            hash = (hash ^ chars.charAt(i)) * FNV_PRIME;
+        return hash;
+    }
+
+    /**
+     * <p>Finalizador de 64 bits do MurmurHash3, que espalha todos os bits da entrada.</p>
+     *
+     * @param value Valor de entrada
+     * @return valor misturado
+     */
+    static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
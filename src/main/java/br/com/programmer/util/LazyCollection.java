@@ -0,0 +1,223 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Visão preguiçosa de uma {@link java.util.Collection}, resultante de filtros e
+ * mapeamentos que só são avaliados quando os elementos são percorridos.
+ * <p>
+ * Filtros e mapeamentos encadeados são fundidos em uma única função aplicada a
+ * cada elemento da coleção de origem, portanto a materialização com
+ * {@link #toList()} percorre a origem uma única vez. Alterações na coleção de
+ * origem são refletidas na visão. Com {@link #memoize()}, os elementos já
+ * avaliados são guardados e reaproveitados nas iterações seguintes; visões
+ * memorizadas não são thread-safe.
+ * </p>
+ *
+ * @param <T> Tipo dos elementos da visão
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#filterView(Collection, Predicate)
+ * @see CollectionUtil#mapView(Collection, Function)
+ * @since 1.0
+ */
+public final class LazyCollection<T> extends AbstractCollection<T> {
+
+    /**
+     * Marca os elementos descartados por um filtro.
+     */
+    static final Object SKIP = new Object();
+
+    private final Collection<?> source;
+    private final Function<Object, Object> step;
+    private final List<T> cache;
+    private Iterator<?> pending;
+
+    LazyCollection(Collection<?> source, Function<Object, Object> step, boolean memoize) {
+        this.source = source;
+        this.step = step;
+        this.cache = memoize ? new ArrayList<>() : null;
+    }
+
+    /**
+     * <p>Retorna uma visão que aplica o filtro informado sobre os elementos desta visão.</p>
+     *
+     * @param predicate É o filtro aplicado sobre os elementos
+     * @return uma nova {@link LazyCollection}, não memorizada
+     */
+    @SuppressWarnings("unchecked")
+    public LazyCollection<T> filter(Predicate<? super T> predicate) {
+        requireNonNull(predicate, CollectionUtil.PREDICATE);
+        return new LazyCollection<>(source, value -> {
+            Object result = step.apply(value);
+            return result == SKIP || !predicate.test((T) result) ? SKIP : result;
+        }, false);
+    }
+
+    /**
+     * <p>Retorna uma visão que aplica a função de mapeamento informada sobre os
+     * elementos desta visão.</p>
+     *
+     * @param mapper É a função de mapeamento
+     * @return uma nova {@link LazyCollection}, não memorizada
+     */
+    @SuppressWarnings("unchecked")
+    public <R> LazyCollection<R> map(Function<? super T, ? extends R> mapper) {
+        requireNonNull(mapper, CollectionUtil.MAPPER);
+        return new LazyCollection<>(source, value -> {
+            Object result = step.apply(value);
+            return result == SKIP ? SKIP : mapper.apply((T) result);
+        }, false);
+    }
+
+    /**
+     * <p>Retorna uma visão que guarda os elementos à medida que são avaliados.</p>
+     *
+     * @return uma nova {@link LazyCollection} memorizada
+     */
+    public LazyCollection<T> memoize() {
+        return cache != null ? this : new LazyCollection<>(source, step, true);
+    }
+
+    /**
+     * <p>Materializa a visão em uma {@link java.util.List}, em uma única passada sobre
+     * a coleção de origem.</p>
+     *
+     * @return uma {@link java.util.ArrayList}
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        if (cache != null)
+            return new ArrayList<>(this);
+        List<T> list = new ArrayList<>();
+        for (Object value : source) {
+            Object result = step.apply(value);
+            if (result != SKIP)
+                list.add((T) result);
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return cache != null ? new MemoizedIterator() : new LazyIterator();
+    }
+
+    /**
+     * <p>Retorna a quantidade de elementos da visão. Todos os elementos são avaliados.</p>
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next())
+            size++;
+        return size;
+    }
+
+    /**
+     * <p>Verifica se a visão está vazia, avaliando apenas até o primeiro elemento.</p>
+     */
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    /**
+     * <p>Avalia o próximo elemento do iterador de origem que não tenha sido descartado.</p>
+     *
+     * @param iterator Iterador da coleção de origem
+     * @return elemento ou {@link #SKIP} caso o iterador tenha se esgotado
+     */
+    private Object advance(Iterator<?> iterator) {
+        while (iterator.hasNext()) {
+            Object result = step.apply(iterator.next());
+            if (result != SKIP)
+                return result;
+        }
+        return SKIP;
+    }
+
+    /**
+     * Iterador que avalia os elementos a cada passo.
+     */
+    private final class LazyIterator implements Iterator<T> {
+
+        private final Iterator<?> iterator = source.iterator();
+        private Object next = SKIP;
+
+        @Override
+        public boolean hasNext() {
+            if (next == SKIP)
+                next = advance(iterator);
+            return next != SKIP;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            T result = (T) next;
+            next = SKIP;
+            return result;
+        }
+    }
+
+    /**
+     * Iterador que lê os elementos já avaliados e avalia os demais sob demanda,
+     * guardando-os na memória da visão.
+     */
+    private final class MemoizedIterator implements Iterator<T> {
+
+        private int index;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            if (index < cache.size())
+                return true;
+            if (pending == null)
+                pending = source.iterator();
+            Object result = advance(pending);
+            if (result == SKIP)
+                return false;
+            cache.add((T) result);
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return cache.get(index++);
+        }
+    }
+}
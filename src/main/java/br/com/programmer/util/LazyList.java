@@ -0,0 +1,135 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Visão preguiçosa de uma {@link java.util.List}, resultante de mapeamentos que só
+ * são avaliados quando os elementos são acessados.
+ * <p>
+ * O acesso por índice aplica o mapeamento apenas ao elemento solicitado, e
+ * mapeamentos encadeados são fundidos em uma única função. Com
+ * {@link #memoize()}, cada elemento é avaliado no máximo uma vez; a memória é
+ * dimensionada pelo tamanho da lista de origem no momento da chamada, que não
+ * deve mudar de tamanho depois disso. Visões memorizadas não são thread-safe.
+ * </p>
+ *
+ * @param <T> Tipo dos elementos da visão
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#mapView(List, Function)
+ * @since 1.0
+ */
+public final class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<?> source;
+    private final Function<Object, Object> mapper;
+    private final Object[] cache;
+
+    LazyList(List<?> source, Function<Object, Object> mapper, boolean memoize) {
+        this.source = source;
+        this.mapper = mapper;
+        if (memoize) {
+            this.cache = new Object[source.size()];
+            Arrays.fill(cache, LazyCollection.SKIP);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * <p>Retorna uma visão que aplica a função de mapeamento informada sobre os
+     * elementos desta visão.</p>
+     *
+     * @param mapper É a função de mapeamento
+     * @return uma nova {@link LazyList}, não memorizada
+     */
+    @SuppressWarnings("unchecked")
+    public <R> LazyList<R> map(Function<? super T, ? extends R> mapper) {
+        requireNonNull(mapper, CollectionUtil.MAPPER);
+        Function<Object, Object> step = this.mapper;
+        return new LazyList<>(source, value -> mapper.apply((T) step.apply(value)), false);
+    }
+
+    /**
+     * <p>Retorna uma visão que aplica o filtro informado sobre os elementos desta visão.</p>
+     *
+     * @param predicate É o filtro aplicado sobre os elementos
+     * @return uma nova {@link LazyCollection}, não memorizada
+     */
+    @SuppressWarnings("unchecked")
+    public LazyCollection<T> filter(Predicate<? super T> predicate) {
+        requireNonNull(predicate, CollectionUtil.PREDICATE);
+        Function<Object, Object> step = this.mapper;
+        return new LazyCollection<>(source, value -> {
+            Object result = step.apply(value);
+            return predicate.test((T) result) ? result : LazyCollection.SKIP;
+        }, false);
+    }
+
+    /**
+     * <p>Retorna uma visão que guarda os elementos à medida que são avaliados.</p>
+     *
+     * @return uma nova {@link LazyList} memorizada
+     */
+    public LazyList<T> memoize() {
+        return cache != null ? this : new LazyList<>(source, mapper, true);
+    }
+
+    /**
+     * <p>Materializa a visão em uma {@link java.util.List}, em uma única passada sobre
+     * a lista de origem.</p>
+     *
+     * @return uma {@link java.util.ArrayList}
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        for (int i = 0, size = size(); i < size; i++)
+            list.add(get(i));
+        return list;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (cache == null)
+            return (T) mapper.apply(source.get(index));
+        Object value = cache[index];
+        if (value == LazyCollection.SKIP) {
+            value = mapper.apply(source.get(index));
+            cache[index] = value;
+        }
+        return (T) value;
+    }
+
+    @Override
+    public int size() {
+        return cache != null ? cache.length : source.size();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Collection;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Coluna de valores {@code long} armazenada fora do heap, em um
+ * {@link java.nio.ByteBuffer} direto ou em um arquivo mapeado em memória.
+ * <p>
+ * Apenas a referência ao buffer ocupa o heap, independentemente da quantidade de
+ * linhas, o que permite manter projeções numéricas grandes em memória para
+ * agregações repetidas sem pressionar o GC. Cada coluna é limitada a
+ * {@link Integer#MAX_VALUE} bytes.
+ * </p>
+ * <p>
+ * A memória fora do heap, ou o mapeamento do arquivo, é liberada imediatamente por
+ * {@link #close()}, sem aguardar o GC; após o fechamento, a coluna não pode mais
+ * ser usada. Fechar uma coluna enquanto outra thread a lê não é suportado.
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#projectToLong(Collection, ToLongFunction)
+ * @since 1.0
+ */
+public final class LongColumn implements AutoCloseable {
+
+    static final int WIDTH = Long.BYTES;
+    private static final int FILTER_INITIAL_ROWS = 1024;
+
+    private final ByteBuffer buffer;
+    private final LongBuffer values;
+    private boolean closed;
+
+    private LongColumn(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.values = buffer.asLongBuffer();
+    }
+
+    /**
+     * <p>Projeta os elementos da coleção no buffer informado.</p>
+     *
+     * @param values É a coleção que deve ser projetada
+     * @param mapper É a função de mapeamento
+     * @param buffer É o buffer de destino, com capacidade para toda a coleção
+     * @return {@link LongColumn}
+     */
+    static <T> LongColumn of(Collection<T> values, ToLongFunction<? super T> mapper, ByteBuffer buffer) {
+        LongColumn column = new LongColumn(buffer);
+        int index = 0;
+        for (T value : values)
+            column.values.put(index++, mapper.applyAsLong(value));
+        return column;
+    }
+
+    /**
+     * <p>Retorna a quantidade de linhas da coluna.</p>
+     *
+     * @return quantidade de linhas
+     */
+    public int size() {
+        checkOpen();
+        return values.capacity();
+    }
+
+    /**
+     * <p>Retorna o valor da linha informada.</p>
+     *
+     * @param index Índice da linha
+     * @return valor da linha
+     */
+    public long get(int index) {
+        checkOpen();
+        return values.get(index);
+    }
+
+    /**
+     * <p>Retorna a soma dos valores da coluna.</p>
+     *
+     * @return soma dos valores
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0, size = size(); i < size; i++)
+            sum += values.get(i);
+        return sum;
+    }
+
+    /**
+     * <p>Retorna o menor valor da coluna.</p>
+     *
+     * @return {@link java.util.OptionalLong} vazio caso a coluna não tenha linhas
+     */
+    public OptionalLong min() {
+        int size = size();
+        if (size == 0)
+            return OptionalLong.empty();
+        long min = values.get(0);
+        for (int i = 1; i < size; i++)
+            min = Math.min(min, values.get(i));
+        return OptionalLong.of(min);
+    }
+
+    /**
+     * <p>Retorna o maior valor da coluna.</p>
+     *
+     * @return {@link java.util.OptionalLong} vazio caso a coluna não tenha linhas
+     */
+    public OptionalLong max() {
+        int size = size();
+        if (size == 0)
+            return OptionalLong.empty();
+        long max = values.get(0);
+        for (int i = 1; i < size; i++)
+            max = Math.max(max, values.get(i));
+        return OptionalLong.of(max);
+    }
+
+    /**
+     * <p>Obtém a quantidade de linhas que sastifazem o predicado informado.</p>
+     *
+     * @param predicate É o filtro aplicado sobre a coluna
+     * @return quantidade de linhas
+     */
+    public long count(LongPredicate predicate) {
+        requireNonNull(predicate, CollectionUtil.PREDICATE);
+        long count = 0;
+        for (int i = 0, size = size(); i < size; i++)
+            if (predicate.test(values.get(i)))
+                count++;
+        return count;
+    }
+
+    /**
+     * <p>Filtra a coluna com base no predicado informado, em uma única passada. O
+     * resultado é gravado em um novo {@link java.nio.ByteBuffer} direto, que cresce
+     * conforme as linhas são aceitas.</p>
+     *
+     * @param predicate É o filtro aplicado sobre a coluna
+     * @return nova {@link LongColumn} com as linhas que sastifazem o predicado
+     */
+    public LongColumn filter(LongPredicate predicate) {
+        requireNonNull(predicate, CollectionUtil.PREDICATE);
+        int size = size();
+        ByteBuffer target = ColumnBuffers.allocate(Math.min(size, FILTER_INITIAL_ROWS), WIDTH);
+        LongBuffer filtered = target.asLongBuffer();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long value = values.get(i);
+            if (predicate.test(value)) {
+                if (count == filtered.capacity()) {
+                    target = ColumnBuffers.grow(target, Math.min(size, 2L * count), WIDTH);
+                    filtered = target.asLongBuffer();
+                }
+                filtered.put(count++, value);
+            }
+        }
+        return new LongColumn(ColumnBuffers.limit(target, count, WIDTH));
+    }
+
+    /**
+     * <p>Grava no arquivo as alterações de uma coluna mapeada em memória. Colunas
+     * armazenadas em buffer direto não são afetadas.</p>
+     */
+    public void force() {
+        checkOpen();
+        ColumnBuffers.force(buffer);
+    }
+
+    /**
+     * <p>Libera a memória fora do heap ou o mapeamento do arquivo da coluna. Chamadas
+     * subsequentes não têm efeito.</p>
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        ColumnBuffers.release(buffer);
+    }
+
+    /**
+     * <p>Retorna um {@link java.util.stream.LongStream} sobre os valores da coluna.</p>
+     *
+     * @return {@link java.util.stream.LongStream}
+     */
+    public LongStream stream() {
+        return IntStream.range(0, size()).mapToLong(this::get);
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("LongColumn is closed");
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Índice hash de elementos por chave {@code long}, com endereçamento aberto e
+ * sondagem linear sobre arrays primitivos, sem boxing das chaves.
+ * <p>
+ * Uma chave pode referenciar vários elementos, mantidos na ordem de inserção.
+ * Instâncias são imutáveis após a construção e podem ser compartilhadas entre
+ * threads.
+ * </p>
+ *
+ * @param <T> Tipo dos elementos indexados
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see CollectionUtil#indexByLong(java.util.Collection, java.util.function.ToLongFunction)
+ * @see CollectionUtil#groupIndexByLong(java.util.Collection, java.util.function.ToLongFunction)
+ * @since 1.0
+ */
+public final class LongIndex<T> {
+
+    private static final int NONE = -1;
+    private static final int MAX_SIZE = 1 << 29;
+
+    private final int mask;
+    private final long[] keys;
+    private final int[] heads;
+    private final int[] tails;
+    private final Object[] values;
+    private final int[] next;
+    private int size;
+    private int keyCount;
+
+    /**
+     * <p>Cria um índice com capacidade para a quantidade de elementos informada.</p>
+     *
+     * @param expectedSize Quantidade de elementos, limitada a 2<sup>29</sup>
+     */
+    LongIndex(int expectedSize) {
+        if (expectedSize > MAX_SIZE)
+            throw new IllegalArgumentException("LongIndex supports at most " + MAX_SIZE + " elements: " + expectedSize);
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.keys = new long[capacity];
+        this.heads = new int[capacity];
+        this.tails = new int[capacity];
+        this.values = new Object[expectedSize];
+        this.next = new int[expectedSize];
+        Arrays.fill(heads, NONE);
+    }
+
+    /**
+     * <p>Adiciona um elemento ao índice.</p>
+     *
+     * @param key    Chave do elemento
+     * @param value  Elemento
+     * @param unique Indica se a chave deve ser única
+     */
+    void put(long key, T value, boolean unique) {
+        int slot = slot(key);
+        int entry = size++;
+        values[entry] = value;
+        next[entry] = NONE;
+        if (heads[slot] == NONE) {
+            keys[slot] = key;
+            heads[slot] = entry;
+            keyCount++;
+        } else {
+            if (unique)
+                throw new IllegalStateException("Duplicate key " + key);
+            next[tails[slot]] = entry;
+        }
+        tails[slot] = entry;
+    }
+
+    /**
+     * <p>Retorna o primeiro elemento associado à chave informada.</p>
+     *
+     * @param key Chave
+     * @return elemento ou {@code null} caso a chave não exista
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long key) {
+        int head = heads[slot(key)];
+        return head == NONE ? null : (T) values[head];
+    }
+
+    /**
+     * <p>Retorna o primeiro elemento associado à chave informada.</p>
+     *
+     * @param key Chave
+     * @return {@link java.util.Optional} do elemento
+     */
+    public Optional<T> find(long key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    /**
+     * <p>Retorna todos os elementos associados à chave informada, na ordem de inserção.</p>
+     *
+     * @param key Chave
+     * @return {@link java.util.List} de elementos, vazia caso a chave não exista
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getAll(long key) {
+        int entry = heads[slot(key)];
+        if (entry == NONE)
+            return Collections.emptyList();
+        List<T> list = new ArrayList<>();
+        for (; entry != NONE; entry = next[entry])
+            list.add((T) values[entry]);
+        return list;
+    }
+
+    /**
+     * <p>Verifica se a chave informada existe no índice.</p>
+     *
+     * @param key Chave
+     * @return {@code true} caso a chave exista, caso contrário, retorna {@code false}
+     */
+    public boolean containsKey(long key) {
+        return heads[slot(key)] != NONE;
+    }
+
+    /**
+     * <p>Retorna a quantidade de chaves distintas do índice.</p>
+     *
+     * @return quantidade de chaves
+     */
+    public int keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * <p>Retorna a quantidade de elementos do índice.</p>
+     *
+     * @return quantidade de elementos
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Percorre os elementos associados à chave informada, na ordem de inserção.</p>
+     *
+     * @param key    Chave
+     * @param action Ação executada sobre cada elemento
+     * @return {@code true} caso a chave exista, caso contrário, retorna {@code false}
+     */
+    @SuppressWarnings("unchecked")
+    boolean forEach(long key, Consumer<? super T> action) {
+        int entry = heads[slot(key)];
+        if (entry == NONE)
+            return false;
+        for (; entry != NONE; entry = next[entry])
+            action.accept((T) values[entry]);
+        return true;
+    }
+
+    /**
+     * <p>Localiza a posição da chave na tabela, ou a primeira posição livre da sua
+     * sequência de sondagem.</p>
+     */
+    private int slot(long key) {
+        int slot = (int) Hashing.mix(key) & mask;
+        while (heads[slot] != NONE && keys[slot] != key)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Heap limitado que mantém os {@code k} elementos de maior chave {@code long},
+ * guardando chaves e elementos em arrays paralelos para evitar boxing e
+ * comparadores sobre objetos. Os arrays começam pequenos e dobram de tamanho,
+ * até {@code k}, conforme os elementos chegam.
+ *
+ * @param <T> Tipo dos elementos
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+final class LongKeyedHeap<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int k;
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    LongKeyedHeap(int k) {
+        this.k = k;
+        this.keys = new long[Math.min(k, INITIAL_CAPACITY)];
+        this.values = new Object[keys.length];
+    }
+
+    /**
+     * <p>Converte um {@code double} em um {@code long} com a mesma ordenação de
+     * {@link Double#compare(double, double)}.</p>
+     *
+     * @param value Valor
+     * @return chave ordenável
+     */
+    static long sortableKey(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * <p>Oferece um elemento ao heap, descartando o de menor chave caso a capacidade
+     * seja excedida.</p>
+     *
+     * @param key   Chave do elemento
+     * @param value Elemento
+     */
+    void offer(long key, T value) {
+        if (size < k) {
+            if (size == keys.length)
+                grow();
+            keys[size] = key;
+            values[size] = value;
+            siftUp(size++);
+        } else if (k > 0 && key > keys[0]) {
+            keys[0] = key;
+            values[0] = value;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * <p>Combina os elementos do heap informado com este heap.</p>
+     *
+     * @param other Heap com a mesma capacidade
+     * @return este heap
+     */
+    @SuppressWarnings("unchecked")
+    LongKeyedHeap<T> merge(LongKeyedHeap<T> other) {
+        for (int i = 0; i < other.size; i++)
+            offer(other.keys[i], (T) other.values[i]);
+        return this;
+    }
+
+    /**
+     * <p>Retorna os elementos do heap da maior para a menor chave. O heap é
+     * esvaziado.</p>
+     *
+     * @return {@link java.util.List} ordenada
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        Object[] sorted = new Object[size];
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = values[0];
+            size--;
+            keys[0] = keys[size];
+            values[0] = values[size];
+            values[size] = null;
+            siftDown(0);
+        }
+        List<T> list = new ArrayList<>(sorted.length);
+        for (Object value : sorted)
+            list.add((T) value);
+        return list;
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY)
+            throw new OutOfMemoryError("LongKeyedHeap capacity exceeded");
+        int capacity = (int) Math.min(Math.min(k, MAX_CAPACITY), (long) keys.length * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    private void siftUp(int index) {
+        int child = index;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (keys[parent] <= keys[child])
+                break;
+            swap(parent, child);
+            child = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        int parent = index;
+        int half = size >>> 1;
+        while (parent < half) {
+            int child = 2 * parent + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child])
+                child++;
+            if (keys[parent] <= keys[child])
+                break;
+            swap(parent, child);
+            parent = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        Object value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
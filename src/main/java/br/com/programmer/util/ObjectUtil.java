@@ -23,6 +23,8 @@ package br.com.programmer.util;
 import br.com.programmer.util.exception.BusinessException;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.*;
 
 /**
@@ -35,6 +37,14 @@ public final class ObjectUtil {
 
     public static final String ACTION = "action";
     public static final String CONDITION = "condition";
+    public static final String PATH = "path";
+
+    private static final ClassValue<ConcurrentMap<String, PropertyPath<?, ?>>> PATHS = new ClassValue<ConcurrentMap<String, PropertyPath<?, ?>>>() {
+        @Override
+        protected ConcurrentMap<String, PropertyPath<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     private ObjectUtil() {
         throw new AssertionError("No ObjectUtil instances for you!");
@@ -191,4 +201,96 @@ public final class ObjectUtil {
         if (!condition.test(object))
             BusinessException.throwMessage(messageSupplier.get());
     }
+
+    /**
+     * <p>Recupera o {@link PropertyPath} compilado para o tipo e o caminho de propriedades
+     * informados, como {@code "customer.address.city"}. A compilação ocorre uma única vez
+     * por tipo e caminho.</p>
+     *
+     * @param type Tipo do objeto raiz
+     * @param path Caminho de propriedades separadas por {@code .}
+     * @param <T>  Tipo do objeto raiz
+     * @param <R>  Tipo do valor da propriedade
+     * @return {@link PropertyPath}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> PropertyPath<T, R> path(Class<T> type, String path) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(path, PATH);
+        return (PropertyPath<T, R>) PATHS.get(type).computeIfAbsent(path, p -> PropertyPath.compile(type, p));
+    }
+
+    /**
+     * <p>Recupera o valor do caminho de propriedades sobre o objeto informado, de forma
+     * segura contra {@code null}.</p>
+     *
+     * @param object       Referência do objeto raiz
+     * @param path         Caminho de propriedades separadas por {@code .}
+     * @param defaultValue Valor retornado caso o objeto ou algum elemento do caminho seja {@code null}
+     * @param <R>          Tipo do valor da propriedade
+     * @return valor da propriedade ou o valor padrão
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R getPath(Object object, String path, R defaultValue) {
+        if (Objects.isNull(object))
+            return defaultValue;
+        return ObjectUtil.<Object, R>path((Class<Object>) object.getClass(), path).getOrDefault(object, defaultValue);
+    }
+
+    /**
+     * <p>Executa operação sobre o valor do caminho de propriedades caso o mesmo tenha uma
+     * referência válida.</p>
+     *
+     * @param object Referência do objeto raiz
+     * @param path   Caminho de propriedades separadas por {@code .}
+     * @param action Ação que será executa sobre o valor da propriedade
+     * @param <R>    Tipo do valor da propriedade
+     */
+    public static <T, R> void nonNull(T object, String path, Consumer<R> action) {
+        Objects.requireNonNull(action, ACTION);
+        nonNull(ObjectUtil.<R>getPath(object, path, null), action);
+    }
+
+    /**
+     * <p>Verifica nulidade do valor do caminho de propriedades, caso o mesmo não seja
+     * {@code null}, uma {@code BusinessException} é lancada.</p>
+     *
+     * @param object          Referência do objeto raiz
+     * @param path            Caminho de propriedades separadas por {@code .}
+     * @param messageSupplier messagem que será forncecida a uma {@code BusinessException}
+     *                        quando for lançada
+     * @param <T>             Tipo da referência
+     */
+    public static <T> void nonNull(T object, String path, Supplier<String> messageSupplier) {
+        nonNull(getPath(object, path, null), messageSupplier);
+    }
+
+    /**
+     * <p>Executa operação sobre o objeto raiz caso o valor do caminho de propriedades
+     * tenha uma referência inválida.</p>
+     *
+     * @param object Referência do objeto raiz
+     * @param path   Caminho de propriedades separadas por {@code .}
+     * @param action Ação que será executa sobre o objeto raiz
+     * @param <T>    Tipo da referência
+     */
+    public static <T> void isNull(T object, String path, Consumer<T> action) {
+        Objects.requireNonNull(action, ACTION);
+        if (Objects.isNull(getPath(object, path, null)))
+            action.accept(object);
+    }
+
+    /**
+     * <p>Verifica nulidade do valor do caminho de propriedades, caso o mesmo seja
+     * {@code null}, uma {@code BusinessException} é lancada.</p>
+     *
+     * @param object          Referência do objeto raiz
+     * @param path            Caminho de propriedades separadas por {@code .}
+     * @param messageSupplier messagem que será forncecida a uma {@code BusinessException}
+     *                        quando for lançada
+     * @param <T>             Tipo da referência
+     */
+    public static <T> void isNull(T object, String path, Supplier<String> messageSupplier) {
+        isNull(getPath(object, path, null), messageSupplier);
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Caminho de propriedades, como {@code "customer.address.city"}, compilado uma única
+ * vez em uma cadeia de {@link java.lang.invoke.MethodHandle} e avaliado de forma
+ * segura contra {@code null}: caso algum elemento intermediário seja {@code null},
+ * o resultado é {@code null}.
+ * <p>
+ * Cada segmento é resolvido, a partir do tipo declarado do segmento anterior, para
+ * um método público {@code getX()}, {@code isX()} ou {@code x()} sem parâmetros, ou
+ * para um campo público {@code x}. A avaliação não usa reflexão. Instâncias são
+ * imutáveis e podem ser compartilhadas entre threads.
+ * </p>
+ *
+ * @param <T> Tipo do objeto raiz
+ * @param <R> Tipo do valor da propriedade
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @see ObjectUtil#path(Class, String)
+ * @since 1.0
+ */
+public final class PropertyPath<T, R> {
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\.");
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final String path;
+    private final Class<?> valueType;
+    private final MethodHandle[] getters;
+
+    private PropertyPath(String path, Class<?> valueType, MethodHandle[] getters) {
+        this.path = path;
+        this.valueType = valueType;
+        this.getters = getters;
+    }
+
+    /**
+     * <p>Compila o caminho de propriedades informado a partir do tipo raiz.</p>
+     *
+     * @param type Tipo do objeto raiz
+     * @param path Caminho de propriedades separadas por {@code .}
+     * @return {@link PropertyPath}
+     * @throws IllegalArgumentException caso algum segmento não exista ou não seja acessível
+     */
+    static <T, R> PropertyPath<T, R> compile(Class<T> type, String path) {
+        if (path == null || path.isEmpty())
+            throw new IllegalArgumentException("\"path\" argument is invalid");
+        String[] names = SEPARATOR.split(path, -1);
+        MethodHandle[] getters = new MethodHandle[names.length];
+        Class<?> current = type;
+        for (int i = 0; i < names.length; i++) {
+            Member member = resolve(current, names[i], path);
+            getters[i] = member.handle.asType(GETTER);
+            current = member.type.isPrimitive() ? MethodType.methodType(member.type).wrap().returnType() : member.type;
+        }
+        return new PropertyPath<>(path, current, getters);
+    }
+
+    /**
+     * <p>Avalia o caminho sobre o objeto informado.</p>
+     *
+     * @param object Objeto raiz
+     * @return valor da propriedade ou {@code null} caso algum elemento do caminho seja {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public R get(T object) {
+        Object current = object;
+        try {
+            for (MethodHandle getter : getters) {
+                if (current == null)
+                    return null;
+                current = (Object) getter.invokeExact(current);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not evaluate \"" + path + "\"", e);
+        }
+        return (R) current;
+    }
+
+    /**
+     * <p>Avalia o caminho sobre o objeto informado.</p>
+     *
+     * @param object       Objeto raiz
+     * @param defaultValue Valor retornado caso a propriedade seja {@code null}
+     * @return valor da propriedade ou o valor padrão
+     */
+    public R getOrDefault(T object, R defaultValue) {
+        R value = get(object);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * <p>Avalia o caminho sobre o objeto informado.</p>
+     *
+     * @param object Objeto raiz
+     * @return {@link java.util.Optional} do valor da propriedade
+     */
+    public Optional<R> find(T object) {
+        return Optional.ofNullable(get(object));
+    }
+
+    /**
+     * <p>Retorna o caminho de propriedades.</p>
+     *
+     * @return caminho de propriedades
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * <p>Retorna o tipo declarado do valor da propriedade. Tipos primitivos são
+     * representados pelos seus tipos wrapper.</p>
+     *
+     * @return tipo do valor
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * <p>Resolve um segmento do caminho para um método ou campo público.</p>
+     */
+    private static Member resolve(Class<?> type, String name, String path) {
+        if (name.isEmpty())
+            throw new IllegalArgumentException("\"path\" argument is invalid: " + path);
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String candidate : new String[]{"get" + capitalized, "is" + capitalized, name}) {
+            try {
+                Method method = accessible(type, type.getMethod(candidate));
+                if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers()))
+                    return new Member(unreflect(method), method.getReturnType());
+            } catch (NoSuchMethodException e) {
+                // próximo candidato
+            }
+        }
+        try {
+            Field field = type.getField(name);
+            if (!Modifier.isStatic(field.getModifiers())) {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                return new Member(lookup.unreflectGetter(field), field.getType());
+            }
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            // propriedade inexistente
+        }
+        throw new IllegalArgumentException("No property \"" + name + "\" in " + type.getName() + " for path \"" + path + "\"");
+    }
+
+    /**
+     * <p>Caso o método tenha sido declarado em uma classe não pública, como as
+     * implementações internas do JDK, procura o mesmo método em uma superclasse ou
+     * interface pública, da mesma forma que o {@code java.beans}.</p>
+     */
+    private static Method accessible(Class<?> type, Method method) {
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+            return method;
+        Method found = publicMethod(type, method.getName());
+        return found != null ? found : method;
+    }
+
+    private static Method publicMethod(Class<?> type, String name) {
+        if (type == null)
+            return null;
+        if (Modifier.isPublic(type.getModifiers())) {
+            try {
+                Method method = type.getMethod(name);
+                if (Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+                    return method;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+        Method method = publicMethod(type.getSuperclass(), name);
+        for (Class<?> face : type.getInterfaces()) {
+            if (method != null)
+                break;
+            method = publicMethod(face, name);
+        }
+        return method;
+    }
+
+    /**
+     * <p>Converte um método público em {@link java.lang.invoke.MethodHandle}. Métodos
+     * declarados em classes não públicas são tornados acessíveis.</p>
+     */
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException cause) {
+                throw new IllegalArgumentException("Inaccessible property method " + method, cause);
+            }
+        }
+    }
+
+    /**
+     * Membro resolvido de um segmento do caminho.
+     */
+    private static final class Member {
+
+        private final MethodHandle handle;
+        private final Class<?> type;
+
+        private Member(MethodHandle handle, Class<?> type) {
+            this.handle = handle;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * {@link EnumLookupTable} montada por reflexão, usada para os tipos {@link Enum}
+ * sem tabela gerada em tempo de compilação. A reflexão ocorre uma única vez: as
+ * constantes na construção e os códigos na primeira consulta por código, de forma
+ * que as anotações do tipo só são lidas quando necessárias.
+ *
+ * @param <E> Tipo {@link Enum}
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+final class ReflectiveEnumLookupTable<E extends Enum<E>> implements EnumLookupTable<E> {
+
+    private static final Map<?, ?> NO_CODES = Collections.unmodifiableMap(new HashMap<>());
+
+    private final List<E> values;
+    private final List<E> sortedValues;
+    private final Map<String, E> names;
+    private final Class<E> enumType;
+    private volatile Map<Object, E> codes;
+
+    ReflectiveEnumLookupTable(Class<E> enumType) {
+        this.enumType = enumType;
+        E[] constants = enumType.getEnumConstants();
+        this.values = Collections.unmodifiableList(Arrays.asList(constants));
+        List<E> sorted = new ArrayList<>(values);
+        sorted.sort(comparing(Enum::name));
+        this.sortedValues = Collections.unmodifiableList(sorted);
+        this.names = new HashMap<>();
+        for (E constant : constants)
+            names.put(constant.name(), constant);
+    }
+
+    @Override
+    public List<E> values() {
+        return values;
+    }
+
+    @Override
+    public List<E> sortedValues() {
+        return sortedValues;
+    }
+
+    @Override
+    public E byName(String name) {
+        return names.get(name);
+    }
+
+    @Override
+    public E byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < values.size() ? values.get(ordinal) : null;
+    }
+
+    @Override
+    public E byCode(Object code) {
+        Map<Object, E> codes = this.codes;
+        if (codes == null)
+            this.codes = codes = codes(enumType, values);
+        if (codes == NO_CODES)
+            throw new UnsupportedOperationException("Enum has no code method");
+        return codes.get(code);
+    }
+
+    /**
+     * <p>Monta o mapa de códigos a partir do método declarado em {@link EnumLookup#code()}.</p>
+     *
+     * @return mapa de códigos ou {@link #NO_CODES} caso o {@link Enum} não declare código
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> Map<Object, E> codes(Class<E> enumType, List<E> constants) {
+        EnumLookup lookup = enumType.getAnnotation(EnumLookup.class);
+        if (lookup == null || lookup.code().isEmpty())
+            return (Map<Object, E>) NO_CODES;
+        try {
+            Method method = codeMethod(enumType, lookup.code());
+            method.setAccessible(true);
+            Map<Object, E> codes = new HashMap<>();
+            for (E constant : constants)
+                codes.put(method.invoke(constant), constant);
+            return codes;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Invalid code method for " + enumType.getName(), e);
+        }
+    }
+
+    /**
+     * <p>Localiza o método de código com as mesmas regras do processador de anotações:
+     * método de instância, sem parâmetros, com retorno e não {@code private},
+     * declarado no {@link Enum}, em uma superclasse ou em uma interface, com
+     * qualquer visibilidade.</p>
+     */
+    private static Method codeMethod(Class<?> enumType, String name) throws NoSuchMethodException {
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> type = enumType; type != null; type = type.getSuperclass()) {
+            Method method = declaredMethod(type, name);
+            if (method != null && (type == enumType || !Modifier.isPrivate(method.getModifiers())))
+                return validate(method);
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        for (Class<?> type = interfaces.poll(); type != null; type = interfaces.poll()) {
+            Method method = declaredMethod(type, name);
+            if (method != null && !Modifier.isStatic(method.getModifiers()))
+                return validate(method);
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        throw new NoSuchMethodException(enumType.getName() + "." + name + "()");
+    }
+
+    private static Method declaredMethod(Class<?> type, String name) {
+        try {
+            return type.getDeclaredMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Method validate(Method method) throws NoSuchMethodException {
+        int modifiers = method.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers) || method.getReturnType() == void.class)
+            throw new NoSuchMethodException(method + " is not a valid code method");
+        return method;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Contagem e soma incrementais de eventos em uma janela deslizante de tempo, como
+ * "último minuto" ou "últimas 24 horas".
+ * <p>
+ * A janela é um buffer circular de baldes primitivos, cada um cobrindo
+ * {@code resolution} de tempo, indexados pelo tempo em milissegundos desde a época.
+ * Os totais da janela são mantidos incrementalmente: inserção e consulta custam
+ * O(1), mais a expiração amortizada dos baldes que saíram da janela. Eventos mais
+ * antigos que a janela são descartados. A precisão das bordas da janela é a de um
+ * balde.
+ * </p>
+ * <p>
+ * Os métodos são sincronizados; para muitas threads produtoras, use
+ * {@link StripedSlidingWindowCounter}.
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+public final class SlidingWindowCounter {
+
+    private final long resolution;
+    private final int buckets;
+    private final long[] counts;
+    private final long[] sums;
+    private long head = Long.MIN_VALUE;
+    private long totalCount;
+    private long totalSum;
+
+    /**
+     * <p>Cria uma janela com a duração e a resolução informadas.</p>
+     *
+     * @param window     Duração da janela
+     * @param resolution Duração de cada balde, divisor da duração da janela
+     */
+    public SlidingWindowCounter(Duration window, Duration resolution) {
+        requireNonNull(window, "window");
+        requireNonNull(resolution, "resolution");
+        long windowMillis = window.toMillis();
+        long resolutionMillis = resolution.toMillis();
+        if (resolutionMillis <= 0 || windowMillis < resolutionMillis || windowMillis % resolutionMillis != 0
+                || windowMillis / resolutionMillis > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("\"resolution\" argument is invalid");
+        this.resolution = resolutionMillis;
+        this.buckets = (int) (windowMillis / resolutionMillis);
+        this.counts = new long[buckets];
+        this.sums = new long[buckets];
+    }
+
+    /**
+     * <p>Registra um evento no instante informado.</p>
+     *
+     * @param time Instante do evento
+     */
+    public void add(LocalDateTime time) {
+        add(DateUtil.localDateTimeToEpochMilli(time), 1);
+    }
+
+    /**
+     * <p>Registra um evento com valor no instante informado.</p>
+     *
+     * @param time  Instante do evento
+     * @param value Valor somado na janela
+     */
+    public void add(LocalDateTime time, long value) {
+        add(DateUtil.localDateTimeToEpochMilli(time), value);
+    }
+
+    /**
+     * <p>Registra um evento com valor no instante informado.</p>
+     *
+     * @param epochMilli Instante do evento, em milissegundos desde a época
+     * @param value      Valor somado na janela
+     */
+    public synchronized void add(long epochMilli, long value) {
+        long bucket = Math.floorDiv(epochMilli, resolution);
+        advance(bucket);
+        if (bucket <= head - buckets)
+            return;
+        int slot = (int) Math.floorMod(bucket, (long) buckets);
+        counts[slot]++;
+        sums[slot] += value;
+        totalCount++;
+        totalSum += value;
+    }
+
+    /**
+     * <p>Retorna a quantidade de eventos na janela que termina no instante informado.</p>
+     *
+     * @param now Instante final da janela
+     * @return quantidade de eventos
+     */
+    public long count(LocalDateTime now) {
+        return count(DateUtil.localDateTimeToEpochMilli(now));
+    }
+
+    /**
+     * <p>Retorna a quantidade de eventos na janela que termina no instante informado.</p>
+     *
+     * @param nowEpochMilli Instante final da janela, em milissegundos desde a época
+     * @return quantidade de eventos
+     */
+    public synchronized long count(long nowEpochMilli) {
+        advance(Math.floorDiv(nowEpochMilli, resolution));
+        return totalCount;
+    }
+
+    /**
+     * <p>Retorna a soma dos valores dos eventos na janela que termina no instante
+     * informado.</p>
+     *
+     * @param now Instante final da janela
+     * @return soma dos valores
+     */
+    public long sum(LocalDateTime now) {
+        return sum(DateUtil.localDateTimeToEpochMilli(now));
+    }
+
+    /**
+     * <p>Retorna a soma dos valores dos eventos na janela que termina no instante
+     * informado.</p>
+     *
+     * @param nowEpochMilli Instante final da janela, em milissegundos desde a época
+     * @return soma dos valores
+     */
+    public synchronized long sum(long nowEpochMilli) {
+        advance(Math.floorDiv(nowEpochMilli, resolution));
+        return totalSum;
+    }
+
+    /**
+     * <p>Avança a janela até o balde informado, expirando os baldes que saíram dela.</p>
+     *
+     * @param bucket Balde mais recente
+     */
+    private void advance(long bucket) {
+        if (bucket <= head)
+            return;
+        if (head == Long.MIN_VALUE || bucket - head >= buckets) {
+            Arrays.fill(counts, 0);
+            Arrays.fill(sums, 0);
+            totalCount = 0;
+            totalSum = 0;
+        } else {
+            for (long expired = head + 1; expired <= bucket; expired++) {
+                int slot = (int) Math.floorMod(expired, (long) buckets);
+                totalCount -= counts[slot];
+                totalSum -= sums[slot];
+                counts[slot] = 0;
+                sums[slot] = 0;
+            }
+        }
+        head = bucket;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * {@link SlidingWindowCounter} particionado em faixas independentes para muitas
+ * threads produtoras concorrentes.
+ * <p>
+ * Cada thread registra seus eventos em uma faixa escolhida pelo seu identificador,
+ * de modo que produtoras distintas raramente disputam o mesmo monitor. As
+ * consultas somam os totais de todas as faixas, em O(faixas).
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+public final class StripedSlidingWindowCounter {
+
+    private final SlidingWindowCounter[] stripes;
+    private final int mask;
+
+    /**
+     * <p>Cria uma janela com uma faixa para cada processador disponível.</p>
+     *
+     * @param window     Duração da janela
+     * @param resolution Duração de cada balde, divisor da duração da janela
+     */
+    public StripedSlidingWindowCounter(Duration window, Duration resolution) {
+        this(window, resolution, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * <p>Cria uma janela com a quantidade de faixas informada, arredondada para a
+     * próxima potência de 2.</p>
+     *
+     * @param window     Duração da janela
+     * @param resolution Duração de cada balde, divisor da duração da janela
+     * @param stripes    Quantidade de faixas
+     */
+    public StripedSlidingWindowCounter(Duration window, Duration resolution, int stripes) {
+        if (stripes <= 0 || stripes > 1 << 16)
+            throw new IllegalArgumentException("\"stripes\" argument is invalid");
+        int size = Integer.highestOneBit(stripes * 2 - 1);
+        this.stripes = new SlidingWindowCounter[size];
+        for (int i = 0; i < size; i++)
+            this.stripes[i] = new SlidingWindowCounter(window, resolution);
+        this.mask = size - 1;
+    }
+
+    /**
+     * <p>Registra um evento no instante informado.</p>
+     *
+     * @param time Instante do evento
+     */
+    public void add(LocalDateTime time) {
+        add(DateUtil.localDateTimeToEpochMilli(time), 1);
+    }
+
+    /**
+     * <p>Registra um evento com valor no instante informado.</p>
+     *
+     * @param time  Instante do evento
+     * @param value Valor somado na janela
+     */
+    public void add(LocalDateTime time, long value) {
+        add(DateUtil.localDateTimeToEpochMilli(time), value);
+    }
+
+    /**
+     * <p>Registra um evento com valor no instante informado.</p>
+     *
+     * @param epochMilli Instante do evento, em milissegundos desde a época
+     * @param value      Valor somado na janela
+     */
+    public void add(long epochMilli, long value) {
+        stripes[(int) Hashing.mix(Thread.currentThread().getId()) & mask].add(epochMilli, value);
+    }
+
+    /**
+     * <p>Retorna a quantidade de eventos na janela que termina no instante informado.</p>
+     *
+     * @param now Instante final da janela
+     * @return quantidade de eventos
+     */
+    public long count(LocalDateTime now) {
+        return count(DateUtil.localDateTimeToEpochMilli(now));
+    }
+
+    /**
+     * <p>Retorna a quantidade de eventos na janela que termina no instante informado.</p>
+     *
+     * @param nowEpochMilli Instante final da janela, em milissegundos desde a época
+     * @return quantidade de eventos
+     */
+    public long count(long nowEpochMilli) {
+        long count = 0;
+        for (SlidingWindowCounter stripe : stripes)
+            count += stripe.count(nowEpochMilli);
+        return count;
+    }
+
+    /**
+     * <p>Retorna a soma dos valores dos eventos na janela que termina no instante
+     * informado.</p>
+     *
+     * @param now Instante final da janela
+     * @return soma dos valores
+     */
+    public long sum(LocalDateTime now) {
+        return sum(DateUtil.localDateTimeToEpochMilli(now));
+    }
+
+    /**
+     * <p>Retorna a soma dos valores dos eventos na janela que termina no instante
+     * informado.</p>
+     *
+     * @param nowEpochMilli Instante final da janela, em milissegundos desde a época
+     * @return soma dos valores
+     */
+    public long sum(long nowEpochMilli) {
+        long sum = 0;
+        for (SlidingWindowCounter stripe : stripes)
+            sum += stripe.sum(nowEpochMilli);
+        return sum;
+    }
+}
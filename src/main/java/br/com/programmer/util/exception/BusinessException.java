@@ -28,23 +28,68 @@ package br.com.programmer.util.exception;
  */
 public class BusinessException extends RuntimeException {
 
+    private final transient ErrorCode errorCode;
+
     public BusinessException() {
         super();
+        this.errorCode = null;
     }
 
     public BusinessException(String message) {
         super(message);
+        this.errorCode = null;
     }
 
     public BusinessException(String message, Throwable cause) {
         super(message, cause);
+        this.errorCode = null;
     }
 
     public BusinessException(Throwable cause) {
         super(cause);
+        this.errorCode = null;
+    }
+
+    /**
+     * <p>Cria uma exceção com a mensagem do código de erro informado e contabiliza a
+     * ocorrência no {@link ErrorCatalog}.</p>
+     *
+     * @param errorCode Código do erro
+     * @param args      Argumentos da mensagem
+     */
+    public BusinessException(ErrorCode errorCode, Object... args) {
+        super(ErrorCatalog.record(errorCode, args));
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * <p>Cria uma exceção com a mensagem do código de erro informado e contabiliza a
+     * ocorrência no {@link ErrorCatalog}.</p>
+     *
+     * @param errorCode Código do erro
+     * @param cause     Causa da exceção
+     * @param args      Argumentos da mensagem
+     */
+    public BusinessException(ErrorCode errorCode, Throwable cause, Object... args) {
+        super(ErrorCatalog.record(errorCode, args), cause);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * <p>Retorna o código de erro da exceção.</p>
+     *
+     * @return {@link ErrorCode} ou {@code null} caso a exceção tenha sido criada com
+     * mensagem livre
+     */
+    public ErrorCode getErrorCode() {
+        return errorCode;
     }
 
     public static void throwMessage(String message) {
         throw new BusinessException(message);
     }
+
+    public static void throwError(ErrorCode errorCode, Object... args) {
+        throw new BusinessException(errorCode, args);
+    }
 }
@@ -0,0 +1,240 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Catálogo de {@link ErrorCode} com mensagens pré-compiladas e contadores de
+ * ocorrência por código.
+ * <p>
+ * O modelo de cada código é compilado uma única vez; mensagens sem marcadores são
+ * sempre a mesma instância de {@link String}, sem alocação por ocorrência. Os
+ * contadores usam {@link java.util.concurrent.atomic.LongAdder} e suportam
+ * incrementos concorrentes em tempestades de erros.
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+public final class ErrorCatalog {
+
+    private static final ConcurrentMap<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private ErrorCatalog() {
+        throw new AssertionError("No ErrorCatalog instances for you!");
+    }
+
+    /**
+     * <p>Registra um código de erro no catálogo.</p>
+     *
+     * @param code     Código do erro
+     * @param template Modelo da mensagem
+     * @return {@link ErrorCode} registrado
+     * @throws IllegalArgumentException caso o código já esteja registrado com outro modelo
+     */
+    public static ErrorCode register(String code, String template) {
+        ErrorCode errorCode = new SimpleErrorCode(requireNonNull(code, "code"), requireNonNull(template, "template"));
+        return entry(errorCode).errorCode;
+    }
+
+    /**
+     * <p>Recupera um código de erro registrado.</p>
+     *
+     * @param code Código do erro
+     * @return {@link ErrorCode} ou {@code null} caso não esteja registrado
+     */
+    public static ErrorCode lookup(String code) {
+        Entry entry = ENTRIES.get(code);
+        return entry != null ? entry.errorCode : null;
+    }
+
+    /**
+     * <p>Monta a mensagem do código de erro, substituindo os marcadores pelos argumentos.</p>
+     *
+     * @param errorCode Código do erro
+     * @param args      Argumentos da mensagem
+     * @return mensagem
+     * @throws IllegalArgumentException caso o código já esteja registrado com outro modelo
+     */
+    public static String format(ErrorCode errorCode, Object... args) {
+        return entry(errorCode).format(args);
+    }
+
+    /**
+     * <p>Contabiliza uma ocorrência do código de erro e monta a sua mensagem.</p>
+     *
+     * @param errorCode Código do erro
+     * @param args      Argumentos da mensagem
+     * @return mensagem
+     * @throws IllegalArgumentException caso o código já esteja registrado com outro modelo
+     */
+    static String record(ErrorCode errorCode, Object... args) {
+        Entry entry = entry(errorCode);
+        entry.count.increment();
+        return entry.format(args);
+    }
+
+    /**
+     * <p>Retorna a quantidade de ocorrências do código de erro.</p>
+     *
+     * @param errorCode Código do erro
+     * @return quantidade de ocorrências
+     */
+    public static long count(ErrorCode errorCode) {
+        Entry entry = ENTRIES.get(requireNonNull(errorCode, "errorCode").getCode());
+        return entry != null ? entry.count.sum() : 0;
+    }
+
+    /**
+     * <p>Retorna a quantidade de ocorrências de cada código de erro.</p>
+     *
+     * @return {@link java.util.Map} do código para a quantidade, ordenado pelo código
+     */
+    public static Map<String, Long> counts() {
+        Map<String, Long> counts = new TreeMap<>();
+        ENTRIES.forEach((code, entry) -> counts.put(code, entry.count.sum()));
+        return counts;
+    }
+
+    /**
+     * <p>Zera os contadores de todos os códigos de erro.</p>
+     */
+    public static void resetCounts() {
+        ENTRIES.values().forEach(entry -> entry.count.reset());
+    }
+
+    /**
+     * <p>Recupera a entrada do código de erro, registrando-o caso necessário. Um
+     * {@link ErrorCode} cujo código já esteja registrado por outra instância, como
+     * uma constante de enum que repete o código de outro enum, só é aceito com o
+     * mesmo modelo.</p>
+     */
+    private static Entry entry(ErrorCode errorCode) {
+        requireNonNull(errorCode, "errorCode");
+        Entry entry = ENTRIES.get(errorCode.getCode());
+        if (entry == null)
+            entry = ENTRIES.computeIfAbsent(errorCode.getCode(), code -> new Entry(errorCode));
+        if (entry.errorCode != errorCode && !entry.errorCode.getTemplate().equals(errorCode.getTemplate()))
+            throw new IllegalArgumentException("Error code \"" + errorCode.getCode()
+                    + "\" is already registered with another template");
+        return entry;
+    }
+
+    /**
+     * Modelo compilado e contador de um código de erro.
+     */
+    private static final class Entry {
+
+        private final ErrorCode errorCode;
+        private final String message;
+        private final String[] literals;
+        private final int[] indexes;
+        private final LongAdder count = new LongAdder();
+
+        private Entry(ErrorCode errorCode) {
+            this.errorCode = errorCode;
+            String template = requireNonNull(errorCode.getTemplate(), "template");
+            List<String> literals = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            int start = 0;
+            int open = template.indexOf('{');
+            while (open >= 0) {
+                int close = template.indexOf('}', open);
+                if (close < 0)
+                    break;
+                Integer index = parseIndex(template, open + 1, close);
+                if (index != null) {
+                    literals.add(template.substring(start, open));
+                    indexes.add(index);
+                    start = close + 1;
+                }
+                open = template.indexOf('{', index != null ? start : open + 1);
+            }
+            literals.add(template.substring(start));
+            this.message = indexes.isEmpty() ? template.intern() : null;
+            this.literals = literals.toArray(new String[0]);
+            this.indexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private String format(Object... args) {
+            if (message != null)
+                return message;
+            StringBuilder builder = new StringBuilder(literals[0]);
+            for (int i = 0; i < indexes.length; i++) {
+                int index = indexes[i];
+                builder.append(args != null && index < args.length ? String.valueOf(args[index]) : "{" + index + "}")
+                        .append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+
+        private static Integer parseIndex(String template, int begin, int end) {
+            if (begin == end || end - begin > 3)
+                return null;
+            int index = 0;
+            for (int i = begin; i < end; i++) {
+                char c = template.charAt(i);
+                if (c < '0' || c > '9')
+                    return null;
+                index = index * 10 + (c - '0');
+            }
+            return index;
+        }
+    }
+
+    /**
+     * {@link ErrorCode} registrado em tempo de execução.
+     */
+    private static final class SimpleErrorCode implements ErrorCode {
+
+        private final String code;
+        private final String template;
+
+        private SimpleErrorCode(String code, String template) {
+            this.code = code;
+            this.template = template;
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public String getTemplate() {
+            return template;
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+    }
+}
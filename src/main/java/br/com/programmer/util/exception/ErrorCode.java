@@ -0,0 +1,51 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util.exception;
+
+/**
+ * Código de erro de negócio com mensagem padronizada.
+ * <p>
+ * Catálogos de códigos podem ser declarados como {@link Enum} que implementa esta
+ * interface ou registrados em tempo de execução com
+ * {@link ErrorCatalog#register(String, String)}. A mensagem aceita marcadores
+ * posicionais {@code {0}}, {@code {1}}, ..., substituídos pelos argumentos
+ * informados ao lançar a {@link BusinessException}.
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+public interface ErrorCode {
+
+    /**
+     * <p>Retorna o código do erro, único no catálogo.</p>
+     *
+     * @return código do erro
+     */
+    String getCode();
+
+    /**
+     * <p>Retorna o modelo da mensagem do erro.</p>
+     *
+     * @return modelo da mensagem
+     */
+    String getTemplate();
+}
@@ -0,0 +1,215 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util.exception;
+
+import org.slf4j.Logger;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Registro de erros de negócio com limite de mensagens por código de erro.
+ * <p>
+ * Cada código pode gerar no máximo {@code permits} mensagens por intervalo; as
+ * ocorrências excedentes são apenas contadas. Ao fim de cada intervalo, uma
+ * thread daemon compartilhada por todas as instâncias registra, para cada código
+ * com ocorrências suprimidas, uma única mensagem de resumo e reabre o limite,
+ * independentemente de novas ocorrências. Assim, uma enxurrada do mesmo erro não
+ * sobrecarrega o I/O de log e nenhuma ocorrência deixa de ser reportada. Exceções
+ * sem {@link ErrorCode} compartilham o mesmo limite.
+ * </p>
+ * <p>
+ * O resumo é agendado enquanto a instância estiver aberta. O agendamento mantém
+ * apenas uma referência fraca à instância e é cancelado quando ela é coletada,
+ * descartando os resumos pendentes; instâncias de vida curta devem ser encerradas
+ * com {@link #close()}, que registra os resumos pendentes.
+ * </p>
+ *
+ * @author <a href='http://github.com/nelsoncastro'>Nelson Castro</a>
+ * @since 1.0
+ */
+public final class ErrorLogger implements AutoCloseable {
+
+    private static final String UNCODED = "";
+
+    private final Logger logger;
+    private final int permits;
+    private final long intervalMillis;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final ScheduledFuture<?> flush;
+
+    /**
+     * <p>Cria um registro de erros com o limite informado.</p>
+     *
+     * @param logger   {@link org.slf4j.Logger} de destino
+     * @param permits  Quantidade máxima de mensagens por código em cada intervalo
+     * @param interval Duração do intervalo, de no mínimo um milissegundo
+     * @param unit     Unidade da duração do intervalo
+     */
+    public ErrorLogger(Logger logger, int permits, long interval, TimeUnit unit) {
+        this(logger, permits, interval, unit, Scheduler.INSTANCE);
+    }
+
+    /**
+     * <p>Cria um registro de erros que agenda os resumos no executor informado.</p>
+     *
+     * @param scheduler Executor dos resumos
+     */
+    ErrorLogger(Logger logger, int permits, long interval, TimeUnit unit, ScheduledExecutorService scheduler) {
+        if (permits < 0)
+            throw new IllegalArgumentException("\"permits\" argument is invalid");
+        long intervalMillis = requireNonNull(unit, "unit").toMillis(interval);
+        if (intervalMillis <= 0)
+            throw new IllegalArgumentException("\"interval\" argument is invalid");
+        this.logger = requireNonNull(logger, "logger");
+        this.permits = permits;
+        this.intervalMillis = intervalMillis;
+        FlushTask task = new FlushTask(this);
+        this.flush = requireNonNull(scheduler, "scheduler").scheduleAtFixedRate(task, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        task.future = flush;
+    }
+
+    /**
+     * <p>Registra a {@link BusinessException} informada, respeitando o limite do seu
+     * código de erro.</p>
+     *
+     * @param exception Exceção de negócio
+     */
+    public void log(BusinessException exception) {
+        requireNonNull(exception, "exception");
+        ErrorCode errorCode = exception.getErrorCode();
+        String code = errorCode != null ? errorCode.getCode() : UNCODED;
+        if (acquire(code))
+            logger.warn("[{}] {}", code, exception.getMessage());
+    }
+
+    /**
+     * <p>Registra uma ocorrência do código de erro, respeitando o seu limite. A
+     * mensagem só é montada quando é de fato registrada.</p>
+     *
+     * @param errorCode Código do erro
+     * @param args      Argumentos da mensagem
+     */
+    public void log(ErrorCode errorCode, Object... args) {
+        requireNonNull(errorCode, "errorCode");
+        if (acquire(errorCode.getCode()))
+            logger.warn("[{}] {}", errorCode.getCode(), ErrorCatalog.format(errorCode, args));
+    }
+
+    /**
+     * <p>Interrompe o agendamento dos resumos e registra os resumos pendentes. Após o
+     * encerramento, o limite de cada código não é mais reaberto. Chamadas
+     * subsequentes não têm efeito.</p>
+     */
+    @Override
+    public void close() {
+        if (flush.cancel(false))
+            flush();
+    }
+
+    /**
+     * <p>Verifica se uma mensagem do código pode ser registrada no intervalo atual.</p>
+     */
+    private boolean acquire(String code) {
+        if (!logger.isWarnEnabled())
+            return false;
+        Window window = windows.get(code);
+        if (window == null)
+            window = windows.computeIfAbsent(code, c -> new Window());
+        if (window.used.get() < permits && window.used.incrementAndGet() <= permits)
+            return true;
+        window.suppressed.increment();
+        return false;
+    }
+
+    /**
+     * <p>Encerra o intervalo atual de todos os códigos: registra o resumo das
+     * ocorrências suprimidas e reabre o limite.</p>
+     */
+    void flush() {
+        windows.forEach((code, window) -> {
+            window.used.set(0);
+            long suppressed = window.suppressed.sumThenReset();
+            if (suppressed > 0)
+                logger.warn("[{}] {} occurrences suppressed in the last {} ms", code, suppressed, intervalMillis);
+        });
+    }
+
+    /**
+     * Janela de limite de um código de erro.
+     */
+    private static final class Window {
+
+        private final AtomicInteger used = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+    }
+
+    /**
+     * Tarefa agendada que referencia a instância de forma fraca, para que o executor
+     * compartilhado não a mantenha viva, e se cancela quando ela é coletada.
+     */
+    private static final class FlushTask implements Runnable {
+
+        private final WeakReference<ErrorLogger> owner;
+        private volatile ScheduledFuture<?> future;
+
+        private FlushTask(ErrorLogger owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        @Override
+        public void run() {
+            ErrorLogger errorLogger = owner.get();
+            if (errorLogger != null)
+                errorLogger.flush();
+            else if (future != null)
+                future.cancel(false);
+        }
+    }
+
+    /**
+     * Thread daemon compartilhada que encerra os intervalos de todas as instâncias.
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+                Thread thread = new Thread(task, "error-logger-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void noFalseNegativesAndFalsePositiveRateWithinBound() {
+        for (double rate : new double[]{0.1, 0.01, 0.001}) {
+            int inserted = 200_000;
+            BloomFilter<Long> filter = CollectionUtil.mapToBloomFilter(LongStream.range(0, inserted).boxed().parallel(),
+                    value -> value, inserted, rate);
+            for (long value = 0; value < inserted; value++)
+                assertTrue(filter.mightContain(value));
+            int probes = 500_000;
+            long falsePositives = LongStream.range(inserted, inserted + probes).filter(filter::mightContain).count();
+            assertTrue(falsePositives <= probes * rate * 1.5, () -> falsePositives + " false positives at " + rate);
+        }
+    }
+
+    @Test
+    void parallelAndSequentialFiltersAreIdentical() {
+        List<String> values = IntStream.range(0, 100_000).mapToObj(i -> "v" + i).collect(Collectors.toList());
+        BloomFilter<String> sequential = CollectionUtil.mapToBloomFilter(values, value -> value, 0.01);
+        BloomFilter<String> parallel = CollectionUtil.mapToBloomFilter(values.parallelStream(), value -> value,
+                values.size(), 0.01);
+        for (int i = 0; i < 200_000; i++)
+            assertEquals(sequential.mightContain("v" + i), parallel.mightContain("v" + i));
+    }
+
+    @Test
+    void compositeKeysNeedHasher() {
+        BloomFilter<List<Integer>> plain = new BloomFilter<>(10, 0.01);
+        assertThrows(IllegalArgumentException.class, () -> plain.put(Arrays.asList(1, 2)));
+
+        List<List<Integer>> keys = IntStream.range(0, 300).boxed()
+                .flatMap(a -> IntStream.range(0, 300).mapToObj(b -> Arrays.asList(a, b))).collect(Collectors.toList());
+        BloomFilter<List<Integer>> filter = CollectionUtil.mapToBloomFilter(keys, key -> key, 0.01,
+                key -> ((long) key.get(0) << 32) | key.get(1));
+        keys.forEach(key -> assertTrue(filter.mightContain(key)));
+        long falsePositives = IntStream.range(300, 600).boxed()
+                .flatMap(a -> IntStream.range(0, 300).mapToObj(b -> Arrays.asList(a, b)))
+                .filter(filter::mightContain).count();
+        assertTrue(falsePositives <= keys.size() * 0.015, () -> falsePositives + " false positives");
+    }
+
+    @Test
+    void mergeRequiresSameParameters() {
+        BloomFilter<Integer> left = new BloomFilter<>(1000, 0.01);
+        BloomFilter<Integer> right = new BloomFilter<>(1000, 0.01);
+        left.put(1);
+        right.put(2);
+        assertTrue(left.merge(right).mightContain(2));
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new BloomFilter<>(10, 0.01)));
+    }
+}
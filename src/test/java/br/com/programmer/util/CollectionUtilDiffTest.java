@@ -0,0 +1,166 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionUtilDiffTest {
+
+    private static final Function<String, String> KEY = value -> value.substring(0, value.indexOf('='));
+
+    @Test
+    void modesAgreeOnRandomVersions() {
+        Random random = new Random(5);
+        List<String> previous = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String key = String.format("k%06d", i);
+            int change = random.nextInt(10);
+            if (change != 0)
+                previous.add(key + "=" + i);
+            if (change != 1)
+                current.add(key + "=" + (change == 2 ? -i : i));
+        }
+
+        CollectionDiff<String> expected = CollectionUtil.diff(previous, current, KEY);
+        assertDiff(expected, CollectionUtil.diffSorted(previous, current, KEY, Comparator.naturalOrder(),
+                Objects::equals));
+        assertDiff(expected, CollectionUtil.parallelDiff(previous, current, KEY, Objects::equals));
+        assertDiff(expected, CollectionUtil.diffByHash(previous, current, KEY, value -> value.hashCode()));
+
+        assertEquals(previous.size() - expected.getRemoved().size(),
+                current.size() - expected.getAdded().size());
+        expected.getChanged().forEach(change -> assertNotEquals(change.getPrevious(), change.getCurrent()));
+    }
+
+    @Test
+    void smallExample() {
+        List<String> previous = Arrays.asList("a=1", "b=1", "c=1");
+        List<String> current = Arrays.asList("b=2", "c=1", "d=1");
+        CollectionDiff<String> diff = CollectionUtil.diff(previous, current, KEY);
+        assertEquals(Arrays.asList("d=1"), diff.getAdded());
+        assertEquals(Arrays.asList("a=1"), diff.getRemoved());
+        assertEquals(1, diff.getChanged().size());
+        assertEquals("b=1", diff.getChanged().get(0).getPrevious());
+        assertEquals("b=2", diff.getChanged().get(0).getCurrent());
+        assertDiff(diff, CollectionUtil.diffSorted(previous, current, KEY, Comparator.naturalOrder(), Objects::equals));
+    }
+
+    @Test
+    void duplicatesAreRejectedByEveryMode() {
+        List<String> unique = Arrays.asList("a=1", "b=1");
+        List<String> duplicated = Arrays.asList("a=1", "a=2", "b=1");
+        for (List<List<String>> versions : Arrays.asList(Arrays.asList(unique, duplicated),
+                Arrays.asList(duplicated, unique))) {
+            List<String> previous = versions.get(0);
+            List<String> current = versions.get(1);
+            assertThrows(IllegalStateException.class, () -> CollectionUtil.diff(previous, current, KEY));
+            assertThrows(IllegalStateException.class, () -> CollectionUtil.diffSorted(previous, current, KEY,
+                    Comparator.naturalOrder(), Objects::equals));
+            assertThrows(IllegalStateException.class, () -> CollectionUtil.parallelDiff(previous, current, KEY,
+                    Objects::equals));
+        }
+        // duplicata no final da versão atual, após o fim da anterior
+        assertThrows(IllegalStateException.class, () -> CollectionUtil.diffSorted(Arrays.asList("a=1"),
+                Arrays.asList("a=1", "b=1", "b=2"), KEY, Comparator.naturalOrder(), Objects::equals));
+    }
+
+    @Test
+    void diffSortedHandlesNullElementsAndUnsortedInput() {
+        List<String> previous = Arrays.asList(null, "a", "b");
+        List<String> current = Arrays.asList(null, "b", "c");
+        Comparator<String> nullsFirst = Comparator.nullsFirst(Comparator.naturalOrder());
+        CollectionDiff<String> diff = CollectionUtil.diffSorted(previous, current, Function.identity(), nullsFirst,
+                Objects::equals);
+        assertEquals(Arrays.asList("c"), diff.getAdded());
+        assertEquals(Arrays.asList("a"), diff.getRemoved());
+        assertTrue(diff.getChanged().isEmpty());
+
+        assertThrows(IllegalStateException.class, () -> CollectionUtil.diffSorted(Arrays.asList("b", "a"),
+                current, Function.identity(), nullsFirst, Objects::equals));
+    }
+
+    @Test
+    void modesAgreeOnNullKeysAndElements() {
+        Function<String, String> key = value -> value == null || value.startsWith("=") ? null : KEY.apply(value);
+        List<String> previous = Arrays.asList("=1", "a=1", "b=1");
+        List<String> current = Arrays.asList("=2", "b=1", "c=1");
+        CollectionDiff<String> expected = CollectionUtil.diff(previous, current, key);
+        assertEquals(Arrays.asList("c=1"), expected.getAdded());
+        assertEquals(Arrays.asList("a=1"), expected.getRemoved());
+        assertEquals(Arrays.asList("=1>=2"), changes(expected.getChanged()));
+        assertDiff(expected, CollectionUtil.parallelDiff(previous, current, key, Objects::equals));
+        assertDiff(expected, CollectionUtil.diffSorted(previous, current, key,
+                Comparator.nullsFirst(Comparator.naturalOrder()), Objects::equals));
+
+        List<String> withNull = Arrays.asList(null, "a=1");
+        List<String> withoutNull = Arrays.asList("a=2");
+        for (List<String> version : Arrays.asList(withNull, withoutNull)) {
+            List<String> other = version == withNull ? withoutNull : withNull;
+            CollectionDiff<String> diff = CollectionUtil.diff(version, other, key);
+            assertDiff(diff, CollectionUtil.parallelDiff(version, other, key, Objects::equals));
+            assertDiff(diff, CollectionUtil.diffSorted(version, other, key,
+                    Comparator.nullsFirst(Comparator.naturalOrder()), Objects::equals));
+        }
+        CollectionDiff<String> unchanged = CollectionUtil.parallelDiff(withNull, withNull, key, Objects::equals);
+        assertTrue(unchanged.getAdded().isEmpty());
+        assertTrue(unchanged.getRemoved().isEmpty());
+        assertTrue(unchanged.getChanged().isEmpty());
+    }
+
+    @Test
+    void duplicateNullElementsAreRejected() {
+        Function<String, String> key = value -> "k";
+        List<String> duplicated = Arrays.asList(null, null);
+        assertThrows(IllegalStateException.class, () -> CollectionUtil.diff(duplicated, Arrays.asList("x"), key));
+        assertThrows(IllegalStateException.class, () -> CollectionUtil.diff(Arrays.asList("x"), duplicated, key));
+        assertThrows(IllegalStateException.class, () -> CollectionUtil.parallelDiff(duplicated, Arrays.asList("x"),
+                key, Objects::equals));
+
+        CollectionDiff<String> diff = CollectionUtil.diff(Arrays.asList((String) null), Arrays.asList("x"), key);
+        assertTrue(diff.getAdded().isEmpty());
+        assertTrue(diff.getRemoved().isEmpty());
+        assertEquals(Arrays.asList("null>x"), changes(diff.getChanged()));
+    }
+
+    private static void assertDiff(CollectionDiff<String> expected, CollectionDiff<String> actual) {
+        assertEquals(expected.getAdded(), actual.getAdded());
+        assertEquals(expected.getRemoved(), actual.getRemoved());
+        assertEquals(changes(expected.getChanged()), changes(actual.getChanged()));
+    }
+
+    private static List<String> changes(Collection<CollectionDiff.Change<String>> changes) {
+        return changes.stream().map(change -> change.getPrevious() + ">" + change.getCurrent())
+                .collect(Collectors.toList());
+    }
+}
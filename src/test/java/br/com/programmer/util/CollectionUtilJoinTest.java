@@ -0,0 +1,95 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionUtilJoinTest {
+
+    private static final List<String> CUSTOMERS = Arrays.asList("1:Ana", "2:Bia", "2:Bruno", null, "4:Davi");
+    private static final List<String> ORDERS = Arrays.asList("o1:2", "o2:3", "o3:1", "o4:", "o5:2");
+
+    @Test
+    void innerJoinMatchesNestedLoop() {
+        Random random = new Random(3);
+        List<long[]> left = new ArrayList<>();
+        List<long[]> right = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            left.add(new long[]{i, random.nextInt(500)});
+            right.add(new long[]{random.nextInt(700), i});
+        }
+        List<String> expected = new ArrayList<>();
+        for (long[] l : left)
+            for (long[] r : right)
+                if (l[1] == r[0])
+                    expected.add(l[0] + "-" + r[1]);
+
+        assertEquals(expected, CollectionUtil.innerJoinByLong(left, right, l -> l[1], r -> r[0],
+                (l, r) -> l[0] + "-" + r[1]));
+        assertEquals(expected, CollectionUtil.innerJoin(left, right, l -> l[1], r -> r[0],
+                (l, r) -> l[0] + "-" + r[1]));
+    }
+
+    @Test
+    void nullKeysNeverMatch() {
+        List<String> joined = CollectionUtil.innerJoin(ORDERS, CUSTOMERS, CollectionUtilJoinTest::customerOf,
+                CollectionUtilJoinTest::idOf, (o, c) -> o + "=" + c);
+        assertEquals(Arrays.asList("o1:2=2:Bia", "o1:2=2:Bruno", "o3:1=1:Ana", "o5:2=2:Bia", "o5:2=2:Bruno"), joined);
+    }
+
+    @Test
+    void leftJoinKeepsUnmatchedAndNullKeyedRows() {
+        List<String> joined = CollectionUtil.leftJoin(ORDERS, CUSTOMERS, CollectionUtilJoinTest::customerOf,
+                CollectionUtilJoinTest::idOf, (o, c) -> o + "=" + c);
+        assertEquals(Arrays.asList("o1:2=2:Bia", "o1:2=2:Bruno", "o2:3=null", "o3:1=1:Ana", "o4:=null",
+                "o5:2=2:Bia", "o5:2=2:Bruno"), joined);
+        assertEquals(Arrays.asList("o1:2=true", "o2:3=false", "o3:1=true", "o4:=false", "o5:2=true"),
+                CollectionUtil.leftJoinByLong(Arrays.asList("o1:2", "o2:3", "o3:1", "o4:", "o5:2"),
+                        Arrays.asList(1L, 2L), o -> o.endsWith(":") ? -1 : Long.parseLong(o.substring(3)),
+                        Long::longValue, (o, c) -> o + "=" + Objects.nonNull(c)));
+    }
+
+    @Test
+    void indexByRejectsDuplicates() {
+        Map<Integer, String> index = CollectionUtil.indexBy(Arrays.asList("a", "bb"), String::length);
+        assertEquals("bb", index.get(2));
+        assertThrows(IllegalStateException.class,
+                () -> CollectionUtil.indexBy(Arrays.asList("a", "b"), String::length));
+    }
+
+    private static String customerOf(String order) {
+        String id = order.substring(order.indexOf(':') + 1);
+        return id.isEmpty() ? null : id;
+    }
+
+    private static String idOf(String customer) {
+        return customer == null ? null : customer.substring(0, customer.indexOf(':'));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionUtilTopKTest {
+
+    private static final List<double[]> VALUES = new ArrayList<>();
+
+    static {
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++)
+            VALUES.add(new double[]{random.nextInt(50_000), random.nextGaussian(), i});
+    }
+
+    @Test
+    void topKMatchesFullSort() {
+        for (int k : new int[]{0, 1, 10, 1000, VALUES.size(), Integer.MAX_VALUE}) {
+            List<Long> expected = keys(sorted(Comparator.comparingDouble((double[] v) -> v[0]).reversed(), k));
+            assertEquals(expected, keys(CollectionUtil.topKByLong(VALUES, k, v -> (long) v[0])));
+            assertEquals(expected, keys(CollectionUtil.topKByLong(VALUES.parallelStream(), k, v -> (long) v[0])));
+            assertEquals(expected, keys(CollectionUtil.topK(VALUES, k, Comparator.comparingDouble(v -> v[0]))));
+            assertEquals(expected, keys(CollectionUtil.topK(VALUES.parallelStream(), k,
+                    Comparator.comparingDouble(v -> v[0]))));
+        }
+    }
+
+    @Test
+    void bottomKMatchesFullSort() {
+        for (int k : new int[]{0, 1, 10, 1000, Integer.MAX_VALUE}) {
+            List<double[]> expected = sorted(Comparator.comparingDouble(v -> v[1]), k);
+            assertEquals(expected, CollectionUtil.bottomKByDouble(VALUES, k, v -> v[1]));
+            assertEquals(expected, CollectionUtil.bottomK(VALUES.parallelStream(), k,
+                    Comparator.comparingDouble(v -> v[1])));
+        }
+    }
+
+    @Test
+    void topKByDoubleMatchesFullSort() {
+        List<double[]> expected = sorted(Comparator.comparingDouble((double[] v) -> v[1]).reversed(), 500);
+        assertEquals(expected, CollectionUtil.topKByDouble(VALUES.parallelStream(), 500, v -> v[1]));
+    }
+
+    @Test
+    void negativeKIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtil.topKByLong(VALUES, -1, v -> 0));
+    }
+
+    private static List<double[]> sorted(Comparator<double[]> comparator, int k) {
+        List<double[]> sorted = new ArrayList<>(VALUES);
+        sorted.sort(comparator);
+        return sorted.subList(0, Math.min(k, sorted.size()));
+    }
+
+    // chaves repetidas podem empatar em qualquer ordem, então só as chaves são comparadas
+    private static List<Long> keys(List<double[]> values) {
+        return values.stream().map(v -> (long) v[0]).collect(Collectors.toList());
+    }
+}
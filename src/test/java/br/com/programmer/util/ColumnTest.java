@@ -0,0 +1,109 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnTest {
+
+    private static final List<Long> VALUES = LongStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void filterMatchesStreamFilter() {
+        try (LongColumn column = CollectionUtil.projectToLong(VALUES, Long::longValue);
+             LongColumn even = column.filter(value -> value % 2 == 0)) {
+            assertArrayEquals(LongStream.range(0, 10_000).filter(value -> value % 2 == 0).toArray(),
+                    even.stream().toArray());
+            assertEquals(0, column.filter(value -> false).size());
+            assertEquals(column.size(), column.filter(value -> true).size());
+        }
+    }
+
+    @Test
+    void filterEvaluatesPredicateOncePerRow() {
+        AtomicInteger calls = new AtomicInteger();
+        try (LongColumn column = CollectionUtil.projectToLong(VALUES, Long::longValue)) {
+            // predicado com estado: aceitaria mais linhas em uma segunda passada
+            LongColumn filtered = column.filter(value -> calls.incrementAndGet() > VALUES.size() / 2);
+            assertEquals(VALUES.size(), calls.get());
+            assertEquals(VALUES.size() / 2, filtered.size());
+            assertEquals(VALUES.size() / 2, filtered.get(0));
+            filtered.close();
+        }
+    }
+
+    @Test
+    void closedColumnRejectsAccess() {
+        DoubleColumn column = CollectionUtil.projectToDouble(VALUES, Long::doubleValue);
+        column.close();
+        column.close();
+        assertThrows(IllegalStateException.class, column::size);
+        assertThrows(IllegalStateException.class, () -> column.get(0));
+        assertThrows(IllegalStateException.class, column::sum);
+    }
+
+    @Test
+    void mappedColumnIsWrittenToFile() throws IOException {
+        Path file = Files.createTempFile("column", ".bin");
+        try {
+            try (LongColumn column = CollectionUtil.projectToLong(Arrays.asList(3L, 5L, 8L), Long::longValue, file)) {
+                column.force();
+                assertEquals(16, column.sum());
+            }
+            ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.nativeOrder());
+            assertEquals(3, content.getLong());
+            assertEquals(5, content.getLong());
+            assertEquals(8, content.getLong());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void doubleSumIsCompensated() {
+        List<Double> values = new ArrayList<>();
+        values.add(1.0);
+        for (int i = 0; i < 100_000; i++)
+            values.add(1e-16);
+        values.add(-1.0);
+        try (DoubleColumn column = CollectionUtil.projectToDouble(values, Double::doubleValue)) {
+            assertEquals(1e-11, column.sum(), 1e-20);
+        }
+        try (DoubleColumn column = CollectionUtil.projectToDouble(Arrays.asList(Double.POSITIVE_INFINITY, 1.0),
+                Double::doubleValue)) {
+            assertEquals(Double.POSITIVE_INFINITY, column.sum());
+        }
+    }
+}
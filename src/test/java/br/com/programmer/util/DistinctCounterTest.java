@@ -0,0 +1,82 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistinctCounterTest {
+
+    @Test
+    void estimateWithinThreeStandardErrors() {
+        for (int precision : new int[]{10, 14, 18}) {
+            DistinctCounter<Long> counter = new DistinctCounter<>(precision);
+            long distinct = 1_000_000;
+            LongStream.range(0, distinct).forEach(counter::add);
+            LongStream.range(0, distinct).forEach(counter::add);
+            assertWithinError(distinct, counter.count(), 3 * 1.04 / Math.sqrt(1 << precision));
+        }
+    }
+
+    @Test
+    void smallCardinalitiesAreNearlyExact() {
+        DistinctCounter<String> counter = new DistinctCounter<>();
+        IntStream.range(0, 1000).forEach(i -> counter.add("key-" + (i % 100)));
+        assertEquals(100, counter.count(), 1);
+    }
+
+    @Test
+    void compositeKeysNeedHasher() {
+        DistinctCounter<List<Integer>> plain = new DistinctCounter<>();
+        assertThrows(IllegalArgumentException.class, () -> plain.add(Arrays.asList(1, 2)));
+
+        List<List<Integer>> keys = IntStream.range(0, 2000).boxed()
+                .flatMap(a -> IntStream.range(0, 2000).mapToObj(b -> Arrays.asList(a, b))).collect(Collectors.toList());
+        DistinctCounter<List<Integer>> counter = CollectionUtil.mapToDistinctCounter(keys.parallelStream(),
+                key -> key, key -> ((long) key.get(0) << 32) | key.get(1));
+        assertWithinError(keys.size(), counter.count(), 3 * 1.04 / Math.sqrt(1 << DistinctCounter.DEFAULT_PRECISION));
+    }
+
+    @Test
+    void mergeEqualsSingleCounter() {
+        DistinctCounter<Integer> all = new DistinctCounter<>(12);
+        DistinctCounter<Integer> left = new DistinctCounter<>(12);
+        DistinctCounter<Integer> right = new DistinctCounter<>(12);
+        for (int i = 0; i < 100_000; i++) {
+            all.add(i);
+            (i % 3 == 0 ? left : right).add(i);
+        }
+        assertEquals(all.count(), left.merge(right).count());
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new DistinctCounter<>(10)));
+    }
+
+    private static void assertWithinError(long expected, long estimate, double relativeError) {
+        assertTrue(Math.abs(estimate - expected) <= expected * relativeError,
+                () -> "estimate " + estimate + " for " + expected);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import br.com.programmer.util.sample.Samples;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumUtilTest {
+
+    @EnumLookup(code = "getCode")
+    enum Status {
+        OPEN("O"), CLOSED("C");
+
+        private final String code;
+
+        Status(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+
+    enum Rating {
+        GOOD, BAD, AVERAGE, UNKNOWN
+    }
+
+    @Test
+    void reflectiveTableWithoutGeneratedClass() {
+        EnumLookupTable<Status> table = EnumUtil.lookup(Status.class);
+        assertSame(table, EnumUtil.lookup(Status.class));
+        assertEquals(Arrays.asList(Status.CLOSED, Status.OPEN), table.sortedValues());
+        assertEquals(Optional.of(Status.CLOSED), EnumUtil.fromCode(Status.class, "C"));
+        assertEquals(Optional.empty(), EnumUtil.fromCode(Status.class, "X"));
+        assertEquals(Optional.of(Status.OPEN), EnumUtil.valueOf(Status.class, "OPEN"));
+        assertEquals(Optional.of(Status.CLOSED), EnumUtil.valueOf(Status.class, 1));
+        assertEquals(Optional.empty(), EnumUtil.valueOf(Status.class, 2));
+    }
+
+    @Test
+    void enumWithoutCodeMethod() {
+        assertEquals(Optional.of(TimeUnit.SECONDS), EnumUtil.valueOf(TimeUnit.class, "SECONDS"));
+        assertThrows(UnsupportedOperationException.class, () -> EnumUtil.fromCode(TimeUnit.class, "s"));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void reflectiveTableWithNonPublicCodeMethod() {
+        Class level = Samples.levelType();
+        Optional<? extends Enum<?>> high = EnumUtil.fromCode(level, 2);
+        assertEquals("HIGH", high.get().name());
+        assertEquals(Optional.empty(), EnumUtil.fromCode(level, 3));
+
+        Class secret = Samples.secretType();
+        assertThrows(IllegalStateException.class, () -> EnumUtil.fromCode(secret, "ONLY"));
+    }
+
+    @Test
+    void labelsFromResourceBundle() {
+        Locale locale = new Locale("pt", "BR");
+        assertEquals("\u00d3tima", EnumUtil.getLabel(Rating.GOOD, locale));
+        assertEquals("p\u00e9ssima", EnumUtil.getLabel(Rating.BAD, locale));
+        assertEquals("UNKNOWN", EnumUtil.getLabel(Rating.UNKNOWN, locale));
+
+        Map<Integer, String> labels = new HashMap<>();
+        labels.put(0, "\u00d3tima");
+        labels.put(1, "p\u00e9ssima");
+        labels.put(2, "Regular");
+        labels.put(3, "UNKNOWN");
+        assertEquals(labels, EnumUtil.toLabelMap(Rating.class, locale));
+    }
+
+    @Test
+    void sortedByLabelUsesCollator() {
+        Locale locale = new Locale("pt", "BR");
+        assertEquals(Arrays.asList(Rating.GOOD, Rating.BAD, Rating.AVERAGE, Rating.UNKNOWN),
+                EnumUtil.toSortedListByLabel(Rating.class, locale));
+    }
+
+    @Test
+    void labelsAreCachedPerTypeAndLocale() {
+        EnumLabels<Rating> labels = EnumUtil.labels(Rating.class, new Locale("pt", "BR"));
+        assertSame(labels, EnumUtil.labels(Rating.class, new Locale("pt", "BR")));
+        assertNotSame(labels, EnumUtil.labels(Rating.class, Locale.ROOT));
+        assertNotSame(labels, EnumUtil.labels(Status.class, new Locale("pt", "BR")));
+        assertEquals(new Locale("pt", "BR"), labels.getLocale());
+    }
+}
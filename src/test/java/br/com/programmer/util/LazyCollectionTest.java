@@ -0,0 +1,172 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyCollectionTest {
+
+    private static final List<Integer> VALUES = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+    @Test
+    void partialConsumptionEvaluatesOnlyWhatIsRead() {
+        AtomicInteger tests = new AtomicInteger();
+        AtomicInteger maps = new AtomicInteger();
+        LazyCollection<Integer> view = CollectionUtil.filterView(VALUES, value -> {
+            tests.incrementAndGet();
+            return value % 2 == 0;
+        }).map(value -> {
+            maps.incrementAndGet();
+            return value * 10;
+        });
+        assertEquals(0, tests.get());
+
+        Iterator<Integer> iterator = view.iterator();
+        assertEquals(Integer.valueOf(20), iterator.next());
+        assertEquals(Integer.valueOf(40), iterator.next());
+        assertEquals(4, tests.get());
+        assertEquals(2, maps.get());
+    }
+
+    @Test
+    void partialConsumptionOfListView() {
+        AtomicInteger maps = new AtomicInteger();
+        LazyList<Integer> view = CollectionUtil.mapView(VALUES, value -> {
+            maps.incrementAndGet();
+            return value * 10;
+        });
+        assertEquals(10, view.size());
+        assertEquals(Integer.valueOf(50), view.get(4));
+        assertEquals(1, maps.get());
+    }
+
+    @Test
+    void memoizedViewNeverReevaluates() {
+        AtomicInteger tests = new AtomicInteger();
+        LazyCollection<Integer> view = CollectionUtil.filterView(VALUES, value -> {
+            tests.incrementAndGet();
+            return value > 5;
+        }).memoize();
+        Iterator<Integer> partial = view.iterator();
+        partial.next();
+        assertEquals(6, tests.get());
+
+        assertEquals(Arrays.asList(6, 7, 8, 9, 10), view.toList());
+        assertEquals(5, view.size());
+        assertEquals(Arrays.asList(6, 7, 8, 9, 10), view.toList());
+        assertEquals(VALUES.size(), tests.get());
+        assertSame(view, view.memoize());
+
+        AtomicInteger maps = new AtomicInteger();
+        LazyList<Integer> list = CollectionUtil.mapView(VALUES, value -> {
+            maps.incrementAndGet();
+            return value * 10;
+        }).memoize();
+        assertEquals(Integer.valueOf(30), list.get(2));
+        assertEquals(Integer.valueOf(30), list.get(2));
+        assertEquals(1, maps.get());
+        list.toList();
+        list.toList();
+        assertEquals(VALUES.size(), maps.get());
+    }
+
+    @Test
+    void chainedViewMakesSinglePass() {
+        AtomicInteger reads = new AtomicInteger();
+        Collection<Integer> source = new CountingCollection(VALUES, reads);
+        AtomicInteger tests = new AtomicInteger();
+        AtomicInteger maps = new AtomicInteger();
+        List<String> result = CollectionUtil.filterView(source, value -> {
+            tests.incrementAndGet();
+            return value % 3 == 0;
+        }).map(value -> {
+            maps.incrementAndGet();
+            return "#" + value;
+        }).toList();
+        assertEquals(Arrays.asList("#3", "#6", "#9"), result);
+        assertEquals(VALUES.size(), reads.get());
+        assertEquals(VALUES.size(), tests.get());
+        assertEquals(3, maps.get());
+    }
+
+    @Test
+    void isEmptyStopsAtFirstSurvivingElement() {
+        AtomicInteger tests = new AtomicInteger();
+        LazyCollection<Integer> view = CollectionUtil.filterView(VALUES, value -> {
+            tests.incrementAndGet();
+            return value == 3;
+        });
+        assertFalse(view.isEmpty());
+        assertEquals(3, tests.get());
+
+        tests.set(0);
+        assertTrue(CollectionUtil.filterView(VALUES, value -> tests.incrementAndGet() < 0).isEmpty());
+        assertEquals(VALUES.size(), tests.get());
+        assertTrue(CollectionUtil.filterView(Collections.<Integer>emptyList(), value -> true).isEmpty());
+    }
+
+    /**
+     * Coleção que conta os elementos lidos da coleção de origem.
+     */
+    private static final class CountingCollection extends AbstractCollection<Integer> {
+
+        private final Collection<Integer> values;
+        private final AtomicInteger reads;
+
+        private CountingCollection(Collection<Integer> values, AtomicInteger reads) {
+            this.values = values;
+            this.reads = reads;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            Iterator<Integer> iterator = values.iterator();
+            return new Iterator<Integer>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Integer next() {
+                    reads.incrementAndGet();
+                    return iterator.next();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+}
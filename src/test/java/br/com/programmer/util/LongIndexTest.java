@@ -0,0 +1,102 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIndexTest {
+
+    @Test
+    void groupIndexMatchesHashMapWithCollidingAndExtremeKeys() {
+        Random random = new Random(42);
+        List<long[]> values = new ArrayList<>();
+        Map<Long, List<long[]>> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            // múltiplos da capacidade da tabela forçam colisões e sondagem linear
+            long key = random.nextInt(3) == 0 ? (random.nextInt(500) * 65_536L) : random.nextLong();
+            if (i % 1000 == 0)
+                key = i % 2000 == 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            long[] value = {key, i};
+            values.add(value);
+            expected.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+
+        LongIndex<long[]> index = CollectionUtil.groupIndexByLong(values, value -> value[0]);
+
+        assertEquals(values.size(), index.size());
+        assertEquals(expected.size(), index.keyCount());
+        expected.forEach((key, chain) -> {
+            assertTrue(index.containsKey(key));
+            assertEquals(chain, index.getAll(key));
+            assertSame(chain.get(0), index.get(key));
+        });
+        for (int i = 0; i < 1000; i++) {
+            long missing = random.nextLong();
+            if (!expected.containsKey(missing)) {
+                assertFalse(index.containsKey(missing));
+                assertNull(index.get(missing));
+                assertEquals(Collections.emptyList(), index.getAll(missing));
+                assertFalse(index.find(missing).isPresent());
+            }
+        }
+    }
+
+    @Test
+    void uniqueIndexRejectsDuplicateKeys() {
+        List<Long> values = Arrays.asList(1L, 2L, 3L, 2L);
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> CollectionUtil.indexByLong(values, Long::longValue));
+        assertEquals("Duplicate key 2", e.getMessage());
+    }
+
+    @Test
+    void uniqueIndexFindsEveryKey() {
+        Map<Long, String> expected = new HashMap<>();
+        for (long key = -500; key < 500; key++)
+            expected.put(key * 31, "v" + key);
+        LongIndex<Map.Entry<Long, String>> index = CollectionUtil.indexByLong(expected.entrySet(), Map.Entry::getKey);
+        expected.forEach((key, value) -> assertEquals(value, index.get(key).getValue()));
+        assertEquals(expected.size(), index.keyCount());
+    }
+
+    @Test
+    void emptyIndex() {
+        LongIndex<Object> index = CollectionUtil.indexByLong(Collections.emptyList(), value -> 0L);
+        assertEquals(0, index.size());
+        assertNull(index.get(0));
+    }
+
+    @Test
+    void oversizedIndexFailsFast() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIndex<>((1 << 29) + 1));
+    }
+}
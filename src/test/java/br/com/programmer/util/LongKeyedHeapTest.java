@@ -0,0 +1,87 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyedHeapTest {
+
+    @Test
+    void keepsLargestKeysInDescendingOrder() {
+        Random random = new Random(7);
+        List<Long> keys = new ArrayList<>();
+        LongKeyedHeap<Long> heap = new LongKeyedHeap<>(100);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextLong();
+            keys.add(key);
+            heap.offer(key, key);
+        }
+        List<Long> expected = keys.stream().sorted(Comparator.reverseOrder()).limit(100).collect(Collectors.toList());
+        assertEquals(expected, heap.toList());
+    }
+
+    @Test
+    void mergeCombinesPartitions() {
+        LongKeyedHeap<Long> left = new LongKeyedHeap<>(3);
+        LongKeyedHeap<Long> right = new LongKeyedHeap<>(3);
+        for (long key = 0; key < 10; key++)
+            (key % 2 == 0 ? left : right).offer(key, key);
+        List<Long> merged = left.merge(right).toList();
+        assertEquals(3, merged.size());
+        assertEquals(Long.valueOf(9), merged.get(0));
+        assertEquals(Long.valueOf(7), merged.get(2));
+    }
+
+    @Test
+    void fewerElementsThanCapacity() {
+        LongKeyedHeap<String> heap = new LongKeyedHeap<>(Integer.MAX_VALUE);
+        heap.offer(2, "b");
+        heap.offer(3, "c");
+        heap.offer(1, "a");
+        assertEquals(3, heap.toList().size());
+    }
+
+    @Test
+    void zeroCapacityKeepsNothing() {
+        LongKeyedHeap<String> heap = new LongKeyedHeap<>(0);
+        heap.offer(1, "a");
+        assertTrue(heap.toList().isEmpty());
+    }
+
+    @Test
+    void sortableKeyFollowsDoubleCompare() {
+        double[] values = {Double.NEGATIVE_INFINITY, -1e300, -1.5, -0.0, 0.0, Double.MIN_VALUE, 2.5, 1e300,
+                Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 0; i < values.length; i++)
+            for (int j = 0; j < values.length; j++)
+                assertEquals(Integer.signum(Double.compare(values[i], values[j])),
+                        Integer.signum(Long.compare(LongKeyedHeap.sortableKey(values[i]),
+                                LongKeyedHeap.sortableKey(values[j]))));
+    }
+}
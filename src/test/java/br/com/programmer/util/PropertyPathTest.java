@@ -0,0 +1,146 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import br.com.programmer.util.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyPathTest {
+
+    public static class Address {
+
+        private final String city;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+
+    public static class Customer {
+
+        public final String name;
+        private final Address address;
+        private final int age;
+        private final boolean active;
+
+        public Customer(String name, Address address, int age, boolean active) {
+            this.name = name;
+            this.address = address;
+            this.age = age;
+            this.active = active;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    @Test
+    void nestedPath() {
+        Customer customer = new Customer("Ana", new Address("Recife"), 30, true);
+        PropertyPath<Customer, String> city = ObjectUtil.path(Customer.class, "address.city");
+        assertEquals("Recife", city.get(customer));
+        assertEquals(String.class, city.getValueType());
+        assertEquals("Ana", ObjectUtil.getPath(customer, "name", null));
+    }
+
+    @Test
+    void nullIntermediateLink() {
+        Customer customer = new Customer("Ana", null, 30, true);
+        PropertyPath<Customer, String> city = ObjectUtil.path(Customer.class, "address.city");
+        assertNull(city.get(customer));
+        assertFalse(city.find(customer).isPresent());
+        assertEquals("-", city.getOrDefault(customer, "-"));
+        assertEquals("-", ObjectUtil.getPath(customer, "address.city", "-"));
+        assertEquals("-", ObjectUtil.getPath(null, "address.city", "-"));
+    }
+
+    @Test
+    void primitiveAndBooleanGetters() {
+        Customer customer = new Customer("Ana", null, 30, true);
+        PropertyPath<Customer, Integer> age = ObjectUtil.path(Customer.class, "age");
+        PropertyPath<Customer, Boolean> active = ObjectUtil.path(Customer.class, "active");
+        assertEquals(Integer.valueOf(30), age.get(customer));
+        assertEquals(Integer.class, age.getValueType());
+        assertEquals(Boolean.TRUE, active.get(customer));
+        assertEquals(Boolean.class, active.getValueType());
+    }
+
+    @Test
+    void methodDeclaredInNonPublicClass() {
+        assertEquals(Integer.valueOf(2), ObjectUtil.getPath(Arrays.asList(1, 2), "size", 0));
+        assertEquals(Boolean.TRUE, ObjectUtil.getPath(Collections.emptyList(), "empty", false));
+        assertEquals(Integer.valueOf(1), ObjectUtil.getPath(new ArrayList<>(Collections.singleton("a")), "size", 0));
+    }
+
+    @Test
+    void unknownSegmentFailsAtCompileTime() {
+        assertThrows(IllegalArgumentException.class, () -> ObjectUtil.path(Customer.class, "address.zip"));
+        assertThrows(IllegalArgumentException.class, () -> ObjectUtil.path(Customer.class, "address..city"));
+        assertThrows(IllegalArgumentException.class, () -> ObjectUtil.path(Customer.class, ""));
+    }
+
+    @Test
+    void compiledPathIsCached() {
+        assertSame(ObjectUtil.path(Customer.class, "address.city"), ObjectUtil.path(Customer.class, "address.city"));
+        assertNotSame(ObjectUtil.path(Customer.class, "address.city"), ObjectUtil.path(Address.class, "city"));
+    }
+
+    @Test
+    void nullChecksOverPath() {
+        Customer withAddress = new Customer("Ana", new Address("Recife"), 30, true);
+        Customer withoutAddress = new Customer("Bia", null, 25, false);
+        List<Object> accepted = new ArrayList<>();
+
+        ObjectUtil.<Customer, String>nonNull(withAddress, "address.city", accepted::add);
+        ObjectUtil.<Customer, String>nonNull(withoutAddress, "address.city", accepted::add);
+        assertEquals(Collections.singletonList("Recife"), accepted);
+
+        accepted.clear();
+        ObjectUtil.isNull(withAddress, "address.city", accepted::add);
+        ObjectUtil.isNull(withoutAddress, "address.city", accepted::add);
+        assertEquals(Collections.singletonList(withoutAddress), accepted);
+
+        assertThrows(BusinessException.class, () -> ObjectUtil.nonNull(withAddress, "address.city", () -> "has city"));
+        ObjectUtil.nonNull(withoutAddress, "address.city", () -> "has city");
+        assertThrows(BusinessException.class, () -> ObjectUtil.isNull(withoutAddress, "address.city", () -> "no city"));
+        ObjectUtil.isNull(withAddress, "address.city", () -> "no city");
+    }
+}
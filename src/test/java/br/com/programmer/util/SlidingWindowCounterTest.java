@@ -0,0 +1,135 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+    private static final Duration RESOLUTION = Duration.ofSeconds(1);
+    private static final long T0 = 1_500_000_000_000L;
+
+    @Test
+    void bucketsExpireAsWindowAdvances() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, RESOLUTION);
+        counter.add(T0, 5);
+        counter.add(T0 + 3_000, 7);
+        assertEquals(2, counter.count(T0 + 9_999));
+        assertEquals(12, counter.sum(T0 + 9_999));
+
+        assertEquals(1, counter.count(T0 + 10_000));
+        assertEquals(7, counter.sum(T0 + 10_000));
+        assertEquals(1, counter.count(T0 + 12_999));
+        assertEquals(0, counter.count(T0 + 13_000));
+        assertEquals(0, counter.sum(T0 + 13_000));
+    }
+
+    @Test
+    void eventsOlderThanWindowAreDropped() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, RESOLUTION);
+        counter.add(T0 + 20_000, 1);
+        counter.add(T0 + 10_999, 100);
+        counter.add(T0 + 11_000, 10);
+        assertEquals(2, counter.count(T0 + 20_000));
+        assertEquals(11, counter.sum(T0 + 20_000));
+    }
+
+    @Test
+    void gapOfWholeWindowResetsAllBuckets() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, RESOLUTION);
+        for (long time = T0; time < T0 + 10_000; time += 1_000)
+            counter.add(time, 1);
+        assertEquals(10, counter.count(T0 + 9_000));
+
+        counter.add(T0 + 19_000, 3);
+        assertEquals(1, counter.count(T0 + 19_000));
+        assertEquals(3, counter.sum(T0 + 19_000));
+
+        counter.add(T0 + 1_000_000, 4);
+        assertEquals(1, counter.count(T0 + 1_000_000));
+        assertEquals(4, counter.sum(T0 + 1_000_000));
+    }
+
+    @Test
+    void negativeEpochsUseFloorBuckets() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, RESOLUTION);
+        counter.add(-10_001, 1000);
+        counter.add(-5_500, 1);
+        counter.add(-1, 2);
+        counter.add(0, 4);
+        assertEquals(3, counter.count(0));
+        assertEquals(7, counter.sum(0));
+
+        assertEquals(3, counter.count(3_999));
+        assertEquals(2, counter.count(4_000));
+        assertEquals(6, counter.sum(4_000));
+        assertEquals(1, counter.count(9_000));
+        assertEquals(0, counter.count(10_000));
+    }
+
+    @Test
+    void invalidResolution() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(WINDOW, Duration.ofMillis(3)));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(WINDOW, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(RESOLUTION, WINDOW));
+        assertThrows(IllegalArgumentException.class, () -> new StripedSlidingWindowCounter(WINDOW, RESOLUTION, 0));
+    }
+
+    @Test
+    void stripedCounterKeepsExactTotalsAcrossThreads() throws InterruptedException {
+        int threads = 8;
+        int events = 20_000;
+        StripedSlidingWindowCounter counter = new StripedSlidingWindowCounter(WINDOW, RESOLUTION, 4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long value = t + 1;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < events; i++)
+                    counter.add(T0 + i % 10_000, value);
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers)
+            worker.join();
+
+        assertEquals((long) threads * events, counter.count(T0 + 9_999));
+        assertEquals((long) events * threads * (threads + 1) / 2, counter.sum(T0 + 9_999));
+        assertEquals((long) threads * events / 2, counter.count(T0 + 14_999));
+        assertEquals(0, counter.count(T0 + 19_999));
+    }
+}
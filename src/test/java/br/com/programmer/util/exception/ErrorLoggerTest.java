@@ -0,0 +1,169 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util.exception;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorLoggerTest {
+
+    private static final ErrorCode TIMEOUT = ErrorCatalog.register("TEST-TIMEOUT", "Timeout calling {0}");
+
+    @Test
+    void suppressedSummaryIsFlushedWithoutNewEvents() {
+        List<String> messages = new CopyOnWriteArrayList<>();
+        RecordingScheduler scheduler = new RecordingScheduler();
+        try (ErrorLogger errorLogger = new ErrorLogger(recording(messages), 2, 100, TimeUnit.MILLISECONDS, scheduler)) {
+            assertEquals(1, scheduler.tasks.size());
+            for (int i = 0; i < 10; i++)
+                errorLogger.log(TIMEOUT, "service-" + i);
+            assertEquals(2, messages.size());
+            assertEquals("[TEST-TIMEOUT] Timeout calling service-0", messages.get(0));
+
+            scheduler.tasks.get(0).run();
+            assertEquals(3, messages.size());
+            assertEquals("[TEST-TIMEOUT] 8 occurrences suppressed in the last 100 ms", messages.get(2));
+
+            // após a virada do intervalo, o limite é reaberto e ociosidade não gera resumos
+            errorLogger.flush();
+            assertEquals(3, messages.size());
+            errorLogger.log(TIMEOUT, "again");
+            assertEquals("[TEST-TIMEOUT] Timeout calling again", messages.get(3));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void scheduledTaskDoesNotRetainLogger() throws InterruptedException {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        try {
+            new ErrorLogger(recording(new CopyOnWriteArrayList<>()), 1, 1, TimeUnit.HOURS, scheduler);
+            Runnable task = scheduler.tasks.get(0);
+            ScheduledFuture<?> future = scheduler.futures.get(0);
+            for (int i = 0; i < 50 && !future.isCancelled(); i++) {
+                System.gc();
+                Thread.sleep(10);
+                task.run();
+            }
+            assertTrue(future.isCancelled());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void closeFlushesPendingSummary() {
+        List<String> messages = new CopyOnWriteArrayList<>();
+        ErrorLogger errorLogger = new ErrorLogger(recording(messages), 0, 1, TimeUnit.HOURS);
+        errorLogger.log(TIMEOUT, "a");
+        errorLogger.log(new BusinessException(TIMEOUT, "b"));
+        assertTrue(messages.isEmpty());
+        errorLogger.close();
+        errorLogger.close();
+        assertEquals(1, messages.size());
+        assertEquals("[TEST-TIMEOUT] 2 occurrences suppressed in the last 3600000 ms", messages.get(0));
+    }
+
+    @Test
+    void conflictingTemplateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ErrorCatalog.register("TEST-TIMEOUT", "Other {0}"));
+        assertSame(TIMEOUT, ErrorCatalog.register("TEST-TIMEOUT", "Timeout calling {0}"));
+        assertThrows(IllegalArgumentException.class, () -> ErrorCatalog.format(Conflicting.TIMEOUT));
+        assertEquals("Timeout calling x", ErrorCatalog.format(Compatible.TIMEOUT, "x"));
+    }
+
+    private enum Conflicting implements ErrorCode {
+        TIMEOUT;
+
+        @Override
+        public String getCode() {
+            return "TEST-TIMEOUT";
+        }
+
+        @Override
+        public String getTemplate() {
+            return "Tempo esgotado";
+        }
+    }
+
+    private enum Compatible implements ErrorCode {
+        TIMEOUT;
+
+        @Override
+        public String getCode() {
+            return "TEST-TIMEOUT";
+        }
+
+        @Override
+        public String getTemplate() {
+            return "Timeout calling {0}";
+        }
+    }
+
+    /**
+     * Executor que guarda as tarefas agendadas para execução manual nos testes e
+     * adia a execução automática para que não concorra com elas.
+     */
+    private static final class RecordingScheduler extends ScheduledThreadPoolExecutor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private final List<ScheduledFuture<?>> futures = new ArrayList<>();
+
+        private RecordingScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            ScheduledFuture<?> future = super.scheduleAtFixedRate(command, 1, 1, TimeUnit.DAYS);
+            tasks.add(command);
+            futures.add(future);
+            return future;
+        }
+    }
+
+    private static Logger recording(List<String> messages) {
+        return (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(), new Class<?>[]{Logger.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("isWarnEnabled"))
+                        return true;
+                    if (method.getName().equals("warn")) {
+                        Object[] arguments = args.length == 2 && args[1] instanceof Object[]
+                                ? (Object[]) args[1] : Arrays.copyOfRange(args, 1, args.length);
+                        messages.add(MessageFormatter.arrayFormat((String) args[0], arguments).getMessage());
+                    }
+                    return null;
+                });
+    }
+}
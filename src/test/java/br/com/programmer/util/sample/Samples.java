@@ -0,0 +1,65 @@
+/*
+ * NELSON PEREIRA DE CASTRO
+ * Copyright 2018, NELSON PEREIRA DE CASTRO,
+ * and individual contributors as indicated by the @authors tag
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package br.com.programmer.util.sample;
+
+import br.com.programmer.util.EnumLookup;
+
+/**
+ * <p>Enums não públicos, fora do pacote do utilitário, para os testes de busca por código.</p>
+ */
+public final class Samples {
+
+    @EnumLookup(code = "code")
+    enum Level {
+        LOW(1), HIGH(2);
+
+        private final int code;
+
+        Level(int code) {
+            this.code = code;
+        }
+
+        int code() {
+            return code;
+        }
+    }
+
+    @EnumLookup(code = "code")
+    enum Secret {
+        ONLY;
+
+        private String code() {
+            return name();
+        }
+    }
+
+    private Samples() {
+        throw new AssertionError();
+    }
+
+    public static Class<?> levelType() {
+        return Level.class;
+    }
+
+    public static Class<?> secretType() {
+        return Secret.class;
+    }
+}